@@ -1,8 +1,51 @@
+import { readdir, readFile, stat, writeFile } from "node:fs/promises";
+import { extname, join, resolve } from "node:path";
+import { promisify } from "node:util";
+import { brotliCompress, constants, gzip } from "node:zlib";
 import { defineConfig } from "vite";
 import react from "@vitejs/plugin-react";
 
+const COMPRESSIBLE = new Set([".html", ".js", ".css", ".svg", ".json", ".txt"]);
+const MIN_COMPRESS_SIZE = 1024;
+
+const gzipAsync = promisify(gzip);
+const brotliAsync = promisify(brotliCompress);
+
+// Writes .gz and .br next to every compressible build file; Spring serves them as-is.
+function precompress() {
+  let outDir;
+  return {
+    name: "precompress",
+    apply: "build",
+    configResolved(config) {
+      outDir = resolve(config.root, config.build.outDir);
+    },
+    async closeBundle() {
+      const files = await readdir(outDir, { recursive: true });
+      await Promise.all(
+        files
+          .filter((file) => COMPRESSIBLE.has(extname(file)))
+          .map(async (file) => {
+            const path = join(outDir, file);
+            if ((await stat(path)).size < MIN_COMPRESS_SIZE) {
+              return;
+            }
+            const content = await readFile(path);
+            await writeFile(`${path}.gz`, await gzipAsync(content, { level: 9 }));
+            await writeFile(
+              `${path}.br`,
+              await brotliAsync(content, {
+                params: { [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY }
+              })
+            );
+          })
+      );
+    }
+  };
+}
+
 export default defineConfig({
-  plugins: [react()],
+  plugins: [react(), precompress()],
   server: {
     port: 3000,
     proxy: {
@@ -12,4 +55,4 @@ export default defineConfig({
   build: {
     outDir: "dist"
   }
-});
\ No newline at end of file
+});
@@ -0,0 +1,32 @@
+package com.example.studentmanagement.benchmark;
+
+import com.example.studentmanagement.model.Student;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Deterministic fixtures shared by the JMH suites.
+ */
+public final class BenchmarkStudents {
+
+    private BenchmarkStudents() {
+    }
+
+    public static Student student(long id) {
+        Student student = new Student(
+            "Nguyễn " + id,
+            "Trần Thị " + id,
+            "student" + id + "@example.edu.vn",
+            LocalDate.of(1990, 1, 1).plusDays(id % 3650)
+        );
+        student.setId(id);
+        return student;
+    }
+
+    public static List<Student> students(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> student(i + 1))
+            .toList();
+    }
+}
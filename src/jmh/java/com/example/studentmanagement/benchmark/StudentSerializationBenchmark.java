@@ -0,0 +1,86 @@
+package com.example.studentmanagement.benchmark;
+
+import com.example.studentmanagement.controller.dto.PageResponse;
+import com.example.studentmanagement.model.Student;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Jackson serialization of a single student and of a list page, and decoding of the page as a
+ * client would, for each wire format the API offers. The mappers are configured the way Spring Boot
+ * configures the ones used by the controllers. The encoded page size per format is printed during
+ * setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StudentSerializationBenchmark {
+
+    private static final TypeReference<PageResponse<Student>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private Student student;
+    private PageResponse<Student> page;
+    private byte[] encodedPage;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        objectMapper = builder.build();
+        student = BenchmarkStudents.student(42);
+        page = PageResponse.from(new PageImpl<>(
+            BenchmarkStudents.students(pageSize),
+            PageRequest.of(0, pageSize, Sort.by("id")),
+            10_000
+        ));
+        encodedPage = objectMapper.writeValueAsBytes(page);
+        System.out.printf("%n%s page of %d: %d bytes%n", format, pageSize, encodedPage.length);
+    }
+
+    @Benchmark
+    public byte[] serializeStudent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(student);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public PageResponse<Student> deserializePage() throws IOException {
+        return objectMapper.readValue(encodedPage, PAGE_TYPE);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.studentmanagement.controller.dto;
+
+import com.example.studentmanagement.benchmark.BenchmarkStudents;
+import com.example.studentmanagement.model.Student;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Cost of wrapping a repository page into the API envelope: content copy plus sort description.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PageResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private Page<Student> page;
+    private Slice<Student> slice;
+
+    @Setup
+    public void setUp() {
+        List<Student> content = BenchmarkStudents.students(size);
+        PageRequest request = PageRequest.of(3, size, Sort.by("lastName").ascending().and(Sort.by("id")));
+        page = new PageImpl<>(content, request, 10_000);
+        slice = new SliceImpl<>(content, request, true);
+    }
+
+    @Benchmark
+    public PageResponse<Student> fromPage() {
+        return PageResponse.from(page);
+    }
+
+    @Benchmark
+    public PageResponse<Student> fromSliceWithEstimate() {
+        return PageResponse.from(slice, 10_000L);
+    }
+}
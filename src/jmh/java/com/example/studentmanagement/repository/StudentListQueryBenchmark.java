@@ -0,0 +1,98 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.StudentManagementApplication;
+import com.example.studentmanagement.benchmark.BenchmarkStudents;
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentView;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * One page of the student list against the embedded database, loaded three ways: as managed
+ * entities in a read-write transaction (snapshot per row, dirty check at commit), as entities in a
+ * read-only transaction, and as {@link StudentView} projections. Run with {@code -prof gc} to compare
+ * the allocation per page alongside the latency.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentListQueryBenchmark {
+
+    private static final int STUDENTS = 5_000;
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private StudentRepository studentRepository;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(StudentManagementApplication.class)
+            .web(WebApplicationType.NONE)
+            .properties(
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "app.students.cache.warm-up.enabled=false"
+            )
+            .run();
+        studentRepository = context.getBean(StudentRepository.class);
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        List<Student> students = BenchmarkStudents.students(STUDENTS);
+        students.forEach(student -> student.setId(null));
+        studentRepository.saveAll(students);
+
+        pageable = PageRequest.of(1, pageSize, Sort.by("id"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Student> managedEntities() {
+        return readWrite.execute(status -> studentRepository.findAll(pageable).getContent());
+    }
+
+    @Benchmark
+    public List<Student> readOnlyEntities() {
+        return readOnly.execute(status -> studentRepository.findAll(pageable).getContent());
+    }
+
+    @Benchmark
+    public List<StudentView> projections() {
+        return studentRepository.findViewPageBy(pageable).getContent();
+    }
+}
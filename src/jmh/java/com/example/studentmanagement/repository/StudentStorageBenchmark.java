@@ -0,0 +1,105 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.StudentManagementApplication;
+import com.example.studentmanagement.benchmark.BenchmarkStudents;
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentPatch;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * CRUD throughput of the repository, each operation in its own transaction like the service does,
+ * against the default embedded H2 database and against the log-structured store of the
+ * {@code log-storage} profile (page-cache durability, no fsync).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentStorageBenchmark {
+
+    private static final int STUDENTS = 5_000;
+
+    @Param({"h2", "log"})
+    public String storage;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private Path directory;
+    private ConfigurableApplicationContext context;
+    private StudentRepository studentRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("student-log");
+        context = new SpringApplicationBuilder(StudentManagementApplication.class)
+            .web(WebApplicationType.NONE)
+            .profiles("log".equals(storage) ? new String[] {"log-storage"} : new String[0])
+            .properties(
+                "spring.main.banner-mode=off",
+                "logging.level.root=WARN",
+                "app.students.cache.warm-up.enabled=false"
+            )
+            .run("--app.students.log-storage.directory=" + directory);
+        studentRepository = context.getBean(StudentRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        List<Student> students = BenchmarkStudents.students(STUDENTS);
+        students.forEach(student -> student.setId(null));
+        studentRepository.saveAll(students);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public Optional<Student> read() {
+        long id = ThreadLocalRandom.current().nextLong(1, STUDENTS + 1);
+        return transactionTemplate.execute(status -> studentRepository.findById(id));
+    }
+
+    @Benchmark
+    public int update() {
+        long id = ThreadLocalRandom.current().nextLong(1, STUDENTS + 1);
+        StudentPatch patch = new StudentPatch("Nguyễn " + sequence.incrementAndGet(), null, null, null);
+        return transactionTemplate.execute(status -> studentRepository.patch(id, patch));
+    }
+
+    @Benchmark
+    public Long createAndDelete() {
+        Student student = BenchmarkStudents.student(STUDENTS + sequence.incrementAndGet());
+        student.setId(null);
+        Long id = transactionTemplate.execute(status -> studentRepository.save(student).getId());
+        transactionTemplate.executeWithoutResult(status -> studentRepository.deleteById(id));
+        return id;
+    }
+}
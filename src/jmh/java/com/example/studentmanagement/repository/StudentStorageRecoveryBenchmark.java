@@ -0,0 +1,151 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.benchmark.BenchmarkStudents;
+import com.example.studentmanagement.config.StudentLogStorageProperties;
+import com.example.studentmanagement.model.Student;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Time from a cold start to a store that can answer queries, for {@code rows} students:
+ * <ul>
+ *   <li>{@code log}: the log-structured store replaying every write from its log segments,</li>
+ *   <li>{@code snapshot}: the same store loading a compacted snapshot,</li>
+ *   <li>{@code h2}: opening an H2 file database with the same table and running a first count.</li>
+ * </ul>
+ * The log store also builds its in-memory indexes, so it has done all its work once it is open;
+ * H2 reads pages lazily afterwards.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StudentStorageRecoveryBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    @Param({"log", "snapshot", "h2"})
+    public String source;
+
+    private Path directory;
+
+    @Setup
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("student-recovery");
+        List<Student> students = BenchmarkStudents.students(rows);
+        students.forEach(student -> student.setId(null));
+
+        if ("h2".equals(source)) {
+            try (Connection connection = DriverManager.getConnection(h2Url(), "sa", "")) {
+                writeH2(connection, students);
+            }
+            return;
+        }
+
+        LogStructuredStudentRepository repository = openLog();
+        for (int from = 0; from < students.size(); from += BATCH_SIZE) {
+            repository.saveAll(students.subList(from, Math.min(from + BATCH_SIZE, students.size())));
+        }
+        if ("snapshot".equals(source)) {
+            repository.destroy();
+        } else {
+            repository.close();
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public long open() throws IOException, SQLException {
+        if ("h2".equals(source)) {
+            try (Connection connection = DriverManager.getConnection(h2Url(), "sa", "");
+                 Statement statement = connection.createStatement();
+                 ResultSet count = statement.executeQuery("select count(*) from students")) {
+                count.next();
+                return count.getLong(1);
+            }
+        }
+        LogStructuredStudentRepository repository = openLog();
+        try {
+            return repository.count();
+        } finally {
+            repository.close();
+        }
+    }
+
+    private LogStructuredStudentRepository openLog() throws IOException {
+        return new LogStructuredStudentRepository(new StudentLogStorageProperties(
+            directory,
+            DataSize.ofMegabytes(16),
+            DataSize.ofGigabytes(1),
+            Duration.ofMinutes(5),
+            false
+        ));
+    }
+
+    private String h2Url() {
+        return "jdbc:h2:file:" + directory.resolve("students").toAbsolutePath();
+    }
+
+    private static void writeH2(Connection connection, List<Student> students) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                create table students (
+                    id bigint primary key,
+                    first_name varchar(100) not null,
+                    last_name varchar(100) not null,
+                    email varchar(150) not null constraint uk_students_email unique,
+                    date_of_birth date not null,
+                    version bigint)""");
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+            "insert into students (id, first_name, last_name, email, date_of_birth, version) values (?, ?, ?, ?, ?, 0)")) {
+            long id = 1;
+            for (Student student : students) {
+                insert.setLong(1, id++);
+                insert.setString(2, student.getFirstName());
+                insert.setString(3, student.getLastName());
+                insert.setString(4, student.getEmail());
+                insert.setDate(5, Date.valueOf(student.getDateOfBirth()));
+                insert.addBatch();
+                if (id % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.benchmark.BenchmarkStudents;
+import com.example.studentmanagement.exception.InvalidStudentDataException;
+import com.example.studentmanagement.model.Student;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Write-path validation: the happy path (including the email regex) and the rejection path, which
+ * pays for building an exception.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StudentValidationBenchmark {
+
+    private Student valid;
+    private Student invalidEmail;
+
+    @Setup
+    public void setUp() {
+        valid = BenchmarkStudents.student(42);
+        invalidEmail = new Student("Anna", "Nguyen", "anna.nguyen@example", LocalDate.of(2000, 1, 1));
+    }
+
+    @Benchmark
+    public Student validateValid() {
+        StudentValidation.validate(valid);
+        return valid;
+    }
+
+    @Benchmark
+    public Object validateInvalidEmail() {
+        try {
+            StudentValidation.validate(invalidEmail);
+            return invalidEmail;
+        } catch (InvalidStudentDataException ex) {
+            return ex;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.studentmanagement.admission;
+
+import com.example.studentmanagement.config.AdmissionControlProperties;
+import com.example.studentmanagement.exception.ApiErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Admission control for the API: sheds load before it reaches Tomcat's worker pool, the
+ * connection pool or the database.
+ *
+ * <p>Requests are grouped into {@link EndpointClass}es. Per client and class a {@link TokenBucket}
+ * enforces a sustained rate with a burst allowance; over it the request gets {@code 429} with a
+ * {@code Retry-After} of when the next token is due. A client is its remote address, unless a
+ * configured trusted proxy names it in {@code app.admission.client-header}. Per class a semaphore caps the requests in
+ * progress across all clients; when it is full the request gets {@code 503} at once instead of
+ * queueing. Both answers use the usual {@link ApiErrorResponse} body with a localized message and
+ * are counted as {@code http.server.requests.rejected} (tags {@code class}, {@code reason}).
+ *
+ * <p>Async requests such as the streaming export keep their slot until the response completes.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    static final String REJECTED_METRIC = "http.server.requests.rejected";
+
+    private static final Duration IDLE_BUCKET_EXPIRY = Duration.ofMinutes(10);
+
+    private final AdmissionControlProperties properties;
+    private final MessageSource messageSource;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final Map<EndpointClass, AdmissionControlProperties.Limits> limits = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Semaphore> inFlight = new EnumMap<>(EndpointClass.class);
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    public AdmissionControlFilter(
+        AdmissionControlProperties properties,
+        MessageSource messageSource,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this(properties, messageSource, objectMapper, meterRegistry, System::nanoTime);
+    }
+
+    AdmissionControlFilter(
+        AdmissionControlProperties properties,
+        MessageSource messageSource,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry,
+        LongSupplier nanoClock
+    ) {
+        this.properties = properties;
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(properties.maxTrackedClients())
+            .expireAfterAccess(IDLE_BUCKET_EXPIRY)
+            .build();
+
+        limits.put(EndpointClass.READ, properties.read());
+        limits.put(EndpointClass.WRITE, properties.write());
+        limits.put(EndpointClass.EXPORT, properties.export());
+        limits.forEach((endpointClass, classLimits) -> {
+            if (classLimits.maxConcurrent() > 0) {
+                inFlight.put(endpointClass, new Semaphore(classLimits.maxConcurrent()));
+            }
+        });
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        AdmissionControlProperties.Limits classLimits = limits.get(endpointClass);
+
+        if (classLimits.rate() > 0) {
+            BucketKey key = new BucketKey(clientOf(request), endpointClass);
+            long now = nanoClock.getAsLong();
+            long waitNanos = buckets.get(key, ignored -> new TokenBucket(classLimits.rate(), classLimits.burst(), now))
+                .tryAcquire(now);
+            if (waitNanos > 0) {
+                reject(request, response, endpointClass, HttpStatus.TOO_MANY_REQUESTS, "error.admission.rate-limited", waitNanos);
+                return;
+            }
+        }
+
+        Semaphore slots = inFlight.get(endpointClass);
+        if (slots == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (!slots.tryAcquire()) {
+            reject(
+                request,
+                response,
+                endpointClass,
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "error.admission.overloaded",
+                properties.overloadRetryAfter().toNanos()
+            );
+            return;
+        }
+
+        Runnable release = releaseOnce(slots);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleasingAsyncListener(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    /**
+     * The remote address, or the configured client header if the request comes from a trusted
+     * proxy. Any caller can send the header, so from anyone else it would let one client spread its
+     * requests over as many buckets as it likes.
+     */
+    private String clientOf(HttpServletRequest request) {
+        String address = request.getRemoteAddr();
+        if (StringUtils.hasText(properties.clientHeader()) && properties.trustedProxies().contains(address)) {
+            String client = request.getHeader(properties.clientHeader());
+            if (StringUtils.hasText(client)) {
+                return client.trim();
+            }
+        }
+        return address;
+    }
+
+    private void reject(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        EndpointClass endpointClass,
+        HttpStatus status,
+        String messageKey,
+        long retryAfterNanos
+    ) throws IOException {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        String message = messageSource.getMessage(messageKey, new Object[] {retryAfterSeconds}, LocaleContextHolder.getLocale());
+
+        Counter.builder(REJECTED_METRIC)
+            .description("API requests shed by admission control")
+            .tag("class", endpointClass.tagValue())
+            .tag("reason", status == HttpStatus.TOO_MANY_REQUESTS ? "rate" : "concurrency")
+            .register(meterRegistry)
+            .increment();
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        ApiErrorResponse body = new ApiErrorResponse(
+            null,
+            status.value(),
+            status.getReasonPhrase(),
+            message,
+            request.getRequestURI(),
+            List.of()
+        );
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private static Runnable releaseOnce(Semaphore slots) {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        };
+    }
+
+    private record BucketKey(String client, EndpointClass endpointClass) {
+    }
+
+    private record ReleasingAsyncListener(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.studentmanagement.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Locale;
+
+/**
+ * The groups of API endpoints that get their own limits.
+ */
+public enum EndpointClass {
+
+    READ,
+    WRITE,
+    EXPORT;
+
+    private static final String EXPORT_PATH = "/api/v1/students/export";
+
+    static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.equals(EXPORT_PATH) || path.startsWith(EXPORT_PATH + "/")) {
+            return EXPORT;
+        }
+        return switch (request.getMethod()) {
+            case "GET", "HEAD", "OPTIONS" -> READ;
+            default -> WRITE;
+        };
+    }
+
+    String tagValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.studentmanagement.admission;
+
+/**
+ * Token bucket refilled continuously at {@code rate} tokens per second up to {@code capacity}.
+ * Refills are computed lazily from the time of the last call, so an idle bucket costs nothing.
+ */
+final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double rate, int capacity, long now) {
+        this.capacity = capacity;
+        this.tokensPerNano = rate / NANOS_PER_SECOND;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * Takes one token.
+     *
+     * @return {@code 0} when a token was taken, otherwise the nanoseconds until one is available
+     */
+    synchronized long tryAcquire(long now) {
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
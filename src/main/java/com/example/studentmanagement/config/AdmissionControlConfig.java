@@ -0,0 +1,40 @@
+package com.example.studentmanagement.config;
+
+import com.example.studentmanagement.admission.AdmissionControlFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.boot.web.servlet.filter.OrderedFilter;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers {@link AdmissionControlFilter} in front of the API. It runs right after Spring's
+ * request context filter, so rejections are localized like every other error response, and ahead
+ * of the query metrics filter so that a shed request costs as little as possible.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+    /**
+     * Just after Boot's {@code OrderedRequestContextFilter}, which fills the {@code LocaleContextHolder}.
+     */
+    public static final int ORDER = OrderedFilter.REQUEST_WRAPPER_FILTER_MAX_ORDER - 104;
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+        AdmissionControlProperties properties,
+        MessageSource messageSource,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        AdmissionControlFilter filter = new AdmissionControlFilter(properties, messageSource, objectMapper, meterRegistry);
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setOrder(ORDER);
+        return registration;
+    }
+}
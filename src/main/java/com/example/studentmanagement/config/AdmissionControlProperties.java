@@ -0,0 +1,71 @@
+package com.example.studentmanagement.config;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.StringUtils;
+
+/**
+ * Rate and concurrency limits in front of {@code /api/*}, see
+ * {@link com.example.studentmanagement.admission.AdmissionControlFilter}. An endpoint class
+ * without configured limits is not limited.
+ *
+ * @param clientHeader request header that identifies the calling client when the request comes from
+ *     one of the {@code trustedProxies}; unset by default, so clients are told apart by remote
+ *     address
+ * @param trustedProxies remote addresses allowed to name the client with {@code clientHeader},
+ *     typically the load balancer in front of this service
+ * @param maxTrackedClients upper bound on clients with a live token bucket; the least recently
+ *     seen are forgotten first, which resets their limits
+ * @param overloadRetryAfter {@code Retry-After} sent with a {@code 503} when a concurrency limit
+ *     is reached
+ */
+@ConfigurationProperties(prefix = "app.admission")
+public record AdmissionControlProperties(
+    @DefaultValue("true") boolean enabled,
+    String clientHeader,
+    @DefaultValue List<String> trustedProxies,
+    @DefaultValue("10000") int maxTrackedClients,
+    @DefaultValue("1s") Duration overloadRetryAfter,
+    @DefaultValue Limits read,
+    @DefaultValue Limits write,
+    @DefaultValue Limits export
+) {
+
+    public AdmissionControlProperties {
+        if (StringUtils.hasText(clientHeader) && trustedProxies.isEmpty()) {
+            throw new IllegalArgumentException("app.admission.client-header requires app.admission.trusted-proxies");
+        }
+        if (maxTrackedClients < 1) {
+            throw new IllegalArgumentException("app.admission.max-tracked-clients must be greater than zero");
+        }
+        if (overloadRetryAfter.isNegative()) {
+            throw new IllegalArgumentException("app.admission.overload-retry-after must not be negative");
+        }
+    }
+
+    /**
+     * Limits of one endpoint class.
+     *
+     * @param rate requests per second each client may sustain; {@code 0} turns the rate limit off
+     * @param burst requests a client may make at once after being idle
+     * @param maxConcurrent requests of this class in progress at once, across all clients;
+     *     {@code 0} turns the concurrency limit off
+     */
+    public record Limits(
+        @DefaultValue("0") double rate,
+        @DefaultValue("0") int burst,
+        @DefaultValue("0") int maxConcurrent
+    ) {
+
+        public Limits {
+            if (rate < 0 || burst < 0 || maxConcurrent < 0) {
+                throw new IllegalArgumentException("app.admission limits must not be negative");
+            }
+            if (rate > 0 && burst < 1) {
+                throw new IllegalArgumentException("app.admission burst must be at least 1 when a rate is set");
+            }
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.studentmanagement.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * Infrastructure for the {@code log-storage} profile, which replaces the database with
+ * {@link com.example.studentmanagement.repository.LogStructuredStudentRepository}.
+ *
+ * <p>The store has no transactions of its own; each repository write is atomic and durable when it
+ * returns. The transaction manager here only demarcates: {@code @Transactional} and
+ * {@code TransactionTemplate} keep working, and {@code @TransactionalEventListener}s still run after
+ * the surrounding method completes. A rollback does not undo writes that already happened.
+ */
+@Configuration(proxyBeanMethods = false)
+@Profile("log-storage")
+public class LogStorageConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new DemarcationOnlyTransactionManager();
+    }
+
+    private static final class DemarcationOnlyTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -1,30 +1,78 @@
 package com.example.studentmanagement.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.util.StringUtils;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.CachingResourceResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
 import org.springframework.web.servlet.resource.PathResourceResolver;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
 
-import java.io.IOException;
-
+/**
+ * Serves the Vite build from {@code classpath:/static/}.
+ *
+ * <p>Files under {@code assets/} carry a content hash in their name, so they are cached by clients
+ * for a year as immutable and never fall back to {@code index.html}. Every other path is a file at
+ * the root or a client-side route that resolves to {@code index.html}; those are revalidated on
+ * every use. Both handlers serve the {@code .br}/{@code .gz} siblings the build writes when the
+ * client accepts them, and remember resolutions (including the fallback) in a bounded cache, so a
+ * repeated request does no classpath lookups.
+ */
 @Configuration
 public class SpaWebConfig implements WebMvcConfigurer {
 
+    private static final String INDEX = "index.html";
+    private static final int RESOLUTION_CACHE_SIZE = 1_000;
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/assets/**")
+            .addResourceLocations("classpath:/static/assets/")
+            .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+            .resourceChain(false)
+            .addResolver(new CachingResourceResolver(resolutionCache("spa-assets")))
+            .addResolver(new EncodedResourceResolver())
+            .addResolver(new PathResourceResolver());
+
         registry.addResourceHandler("/**")
-                .addResourceLocations("classpath:/static/")
-                .resourceChain(true)
-                .addResolver(new PathResourceResolver() {
-                    @Override
-                    protected Resource getResource(String resourcePath, Resource location) throws IOException {
-                        Resource requested = location.createRelative(resourcePath);
-                        return requested.exists() && requested.isReadable()
-                                ? requested
-                                : new ClassPathResource("/static/index.html");
-                    }
-                });
+            .addResourceLocations("classpath:/static/")
+            .setCacheControl(CacheControl.noCache())
+            .resourceChain(false)
+            .addResolver(new CachingResourceResolver(resolutionCache("spa-pages")))
+            .addResolver(new EncodedResourceResolver())
+            .addResolver(new IndexFallbackResolver());
+    }
+
+    private static CaffeineCache resolutionCache(String name) {
+        return new CaffeineCache(name, Caffeine.newBuilder().maximumSize(RESOLUTION_CACHE_SIZE).build());
+    }
+
+    /**
+     * Resolves client-side routes to {@code index.html}. A path with a file extension is a file
+     * request, so a missing one stays a 404 instead of being answered with HTML.
+     */
+    private static final class IndexFallbackResolver extends PathResourceResolver {
+
+        @Override
+        protected Resource resolveResourceInternal(
+            HttpServletRequest request,
+            String requestPath,
+            List<? extends Resource> locations,
+            ResourceResolverChain chain
+        ) {
+            Resource resource = super.resolveResourceInternal(request, requestPath, locations, chain);
+            if (resource != null || StringUtils.getFilenameExtension(requestPath) != null) {
+                return resource;
+            }
+            return super.resolveResourceInternal(request, INDEX, locations, chain);
+        }
     }
 }
@@ -0,0 +1,26 @@
+package com.example.studentmanagement.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Warm-up settings for the {@code students} cache. Size and TTL live in
+ * {@code spring.cache.caffeine.spec}.
+ */
+@ConfigurationProperties(prefix = "app.students.cache")
+public record StudentCacheProperties(
+    @DefaultValue WarmUp warmUp
+) {
+
+    /**
+     * When enabled, the hottest cached ids are written to {@code file} on shutdown and loaded back
+     * into the cache on the next start.
+     */
+    public record WarmUp(
+        @DefaultValue("false") boolean enabled,
+        Path file,
+        @DefaultValue("1000") int size
+    ) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.studentmanagement.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Group commit for student creation, see {@link com.example.studentmanagement.service.StudentGroupCommitter}.
+ *
+ * @param maxBatchSize creates flushed together at most; a full batch is flushed at once
+ * @param maxDelay how long the first create of a batch waits for others to join it
+ */
+@ConfigurationProperties(prefix = "app.students.group-commit")
+public record StudentGroupCommitProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("64") int maxBatchSize,
+    @DefaultValue("2ms") Duration maxDelay
+) {
+
+    public StudentGroupCommitProperties {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("app.students.group-commit.max-batch-size must be greater than zero");
+        }
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("app.students.group-commit.max-delay must not be negative");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.studentmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.students.import")
+public record StudentImportProperties(
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("1000") int maxReportedErrors
+) {
+
+    public StudentImportProperties {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("app.students.import.batch-size must be greater than zero");
+        }
+        if (maxReportedErrors < 0) {
+            throw new IllegalArgumentException("app.students.import.max-reported-errors must not be negative");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.studentmanagement.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the log-structured student store of the {@code log-storage} profile.
+ *
+ * @param segmentSize initial mapped size of a log segment; segments grow by doubling
+ * @param snapshotThreshold log volume after which a write also compacts the log into a snapshot
+ * @param snapshotInterval how often pending log records are compacted in the background
+ * @param fsync force every write to disk before it returns, instead of leaving it to the page cache
+ */
+@ConfigurationProperties(prefix = "app.students.log-storage")
+public record StudentLogStorageProperties(
+    @DefaultValue("./data/students") Path directory,
+    @DefaultValue("16MB") DataSize segmentSize,
+    @DefaultValue("64MB") DataSize snapshotThreshold,
+    @DefaultValue("PT5M") Duration snapshotInterval,
+    @DefaultValue("false") boolean fsync
+) {
+
+    public StudentLogStorageProperties {
+        if (segmentSize.toBytes() < 1) {
+            throw new IllegalArgumentException("app.students.log-storage.segment-size must be greater than zero");
+        }
+        if (snapshotThreshold.toBytes() < 1) {
+            throw new IllegalArgumentException("app.students.log-storage.snapshot-threshold must be greater than zero");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.studentmanagement.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Bounds for the serialized-response cache behind the student read endpoints.
+ */
+@ConfigurationProperties(prefix = "app.students.response-cache")
+public record StudentResponseCacheProperties(
+    @DefaultValue("16MB") DataSize maxSize,
+    @DefaultValue("100000") int maxTrackedVersions
+) {
+
+    public StudentResponseCacheProperties {
+        if (maxSize.isNegative()) {
+            throw new IllegalArgumentException("app.students.response-cache.max-size must not be negative");
+        }
+        if (maxTrackedVersions < 0) {
+            throw new IllegalArgumentException("app.students.response-cache.max-tracked-versions must not be negative");
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.service.StudentAnalyticsReplica;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Dashboard aggregates, answered from {@link StudentAnalyticsReplica} without touching the
+ * database.
+ */
+@RestController
+@RequestMapping("/api/v1/students/analytics")
+public class StudentAnalyticsController {
+
+    private static final int DEFAULT_AGE_BAND_WIDTH = 5;
+    private static final int MAX_AGE_BAND_WIDTH = 50;
+    private static final int DEFAULT_DOMAIN_LIMIT = 10;
+    private static final int MAX_DOMAIN_LIMIT = 100;
+
+    private final StudentAnalyticsReplica analyticsReplica;
+
+    public StudentAnalyticsController(StudentAnalyticsReplica analyticsReplica) {
+        this.analyticsReplica = analyticsReplica;
+    }
+
+    @GetMapping("/birth-years")
+    public List<StudentAnalyticsReplica.YearCount> birthYears() {
+        return analyticsReplica.countByBirthYear();
+    }
+
+    @GetMapping("/ages")
+    public List<StudentAnalyticsReplica.AgeBand> ages(
+        @RequestParam(name = "width", defaultValue = "" + DEFAULT_AGE_BAND_WIDTH) int width
+    ) {
+        if (width < 1 || width > MAX_AGE_BAND_WIDTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.analytics.width.invalid");
+        }
+        return analyticsReplica.ageDistribution(width, LocalDate.now());
+    }
+
+    @GetMapping("/email-domains")
+    public List<StudentAnalyticsReplica.DomainCount> emailDomains(
+        @RequestParam(name = "limit", defaultValue = "" + DEFAULT_DOMAIN_LIMIT) int limit
+    ) {
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.analytics.limit.invalid");
+        }
+        return analyticsReplica.topEmailDomains(Math.min(limit, MAX_DOMAIN_LIMIT));
+    }
+}
@@ -1,25 +1,37 @@
 package com.example.studentmanagement.controller;
 
 import com.example.studentmanagement.controller.dto.PageResponse;
+import com.example.studentmanagement.controller.dto.StudentBatchDeleteResponse;
+import com.example.studentmanagement.controller.dto.StudentBatchResponse;
 import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentPatch;
+import com.example.studentmanagement.model.StudentView;
 import com.example.studentmanagement.service.StudentService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 @RestController
@@ -28,32 +40,82 @@ public class StudentController {
 
     private static final int DEFAULT_PAGE_SIZE = 20;
     private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_SIZE = 100;
+
+    private static final String RESOURCE = "students";
 
     private final StudentService studentService;
+    private final StudentCursorCodec cursorCodec;
+    private final StudentResponseCache responseCache;
 
-    public StudentController(StudentService studentService) {
+    public StudentController(
+        StudentService studentService,
+        StudentCursorCodec cursorCodec,
+        StudentResponseCache responseCache
+    ) {
         this.studentService = studentService;
+        this.cursorCodec = cursorCodec;
+        this.responseCache = responseCache;
     }
 
     @GetMapping
-    public PageResponse<Student> getAllStudents(
+    public ResponseEntity<byte[]> getAllStudents(
         @PageableDefault(
             page = 0,
             size = DEFAULT_PAGE_SIZE,
             sort = "id",
             direction = Sort.Direction.ASC
         ) Pageable pageable,
-        HttpServletRequest request
+        @RequestParam(name = "after", required = false) String after,
+        @RequestParam(name = "count", defaultValue = "exact") String count,
+        HttpServletRequest request,
+        WebRequest webRequest
     ) {
         Pageable sanitized = sanitizePageable(pageable, request);
-        Page<Student> page = studentService.getStudents(sanitized);
-        return PageResponse.from(page);
+        if (after != null) {
+            return responseCache.collection(
+                webRequest,
+                RESOURCE,
+                "after=" + after + "&size=" + sanitized.getPageSize() + "&sort=" + sanitized.getSort(),
+                generation -> getStudentsAfter(after, sanitized)
+            );
+        }
+
+        return switch (count) {
+            case "exact", "none", "estimated" -> responseCache.collection(
+                webRequest,
+                RESOURCE,
+                "count=" + count + "&page=" + sanitized.getPageNumber() + "&size=" + sanitized.getPageSize()
+                    + "&sort=" + sanitized.getSort(),
+                generation -> getStudentPage(sanitized, count, generation)
+            );
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.page.count.invalid");
+        };
+    }
+
+    /**
+     * Multi-get by id list ({@code ?ids=1,2,3}), answered with one {@code IN} query. Students come back
+     * in request order, duplicates collapsed; unknown ids are listed in {@code missingIds}.
+     */
+    @GetMapping("/batch")
+    public StudentBatchResponse getStudentsByIds(@RequestParam(name = "ids", required = false) List<Long> ids) {
+        Set<Long> requested = sanitizeIds(ids);
+        Map<Long, Student> found = studentService.getStudentsByIds(requested);
+        return new StudentBatchResponse(
+            List.copyOf(found.values()),
+            requested.stream().filter(id -> !found.containsKey(id)).toList()
+        );
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Student> getStudentById(@PathVariable Long id) {
-        Student student = studentService.getStudentById(id);
-        return ResponseEntity.ok(student);
+    public ResponseEntity<byte[]> getStudentById(@PathVariable Long id, WebRequest webRequest) {
+        return responseCache.entity(
+            webRequest,
+            RESOURCE,
+            id,
+            () -> studentService.getStudentById(id),
+            Student::getVersion
+        );
     }
 
     @PostMapping
@@ -71,12 +133,61 @@ public class StudentController {
         return ResponseEntity.ok(updatedStudent);
     }
 
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchStudent(
+        @PathVariable Long id,
+        @Valid @RequestBody StudentPatch patch
+    ) {
+        studentService.patchStudent(id, patch);
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteStudent(@PathVariable Long id) {
         studentService.deleteStudent(id);
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Bulk delete by id list ({@code ?ids=1,2,3}) with one {@code DELETE ... WHERE id IN}. Unknown ids
+     * are not an error; they are reported in {@code missingIds}.
+     */
+    @DeleteMapping("/batch")
+    public StudentBatchDeleteResponse deleteStudents(@RequestParam(name = "ids", required = false) List<Long> ids) {
+        Set<Long> requested = sanitizeIds(ids);
+        List<Long> deleted = studentService.deleteStudents(requested);
+        return new StudentBatchDeleteResponse(
+            deleted,
+            requested.stream().filter(id -> !deleted.contains(id)).toList()
+        );
+    }
+
+    private PageResponse<StudentView> getStudentPage(Pageable pageable, String count, long generation) {
+        return switch (count) {
+            case "none" -> PageResponse.from(studentService.getStudentSlice(pageable, generation), null);
+            case "estimated" -> PageResponse.from(
+                studentService.getStudentSlice(pageable, generation),
+                studentService.estimateStudentCount()
+            );
+            default -> PageResponse.from(studentService.getStudents(pageable, generation));
+        };
+    }
+
+    /**
+     * Cursor mode: {@code after} is empty for the first page, then the {@code nextCursor} of the previous one.
+     * The {@code page} parameter is ignored.
+     */
+    private PageResponse<StudentView> getStudentsAfter(String after, Pageable pageable) {
+        Sort sort = pageable.getSort();
+        KeysetScrollPosition position = cursorCodec.decode(after, sort);
+        Window<StudentView> window = studentService.getStudents(sort, pageable.getPageSize(), position);
+
+        String nextCursor = window.hasNext()
+            ? cursorCodec.encode(window.positionAt(window.size() - 1), sort)
+            : null;
+        return PageResponse.from(window, pageable.getPageSize(), sort, position.isInitial(), nextCursor);
+    }
+
     private Pageable sanitizePageable(Pageable pageable, HttpServletRequest request) {
         int page = Math.max(pageable.getPageNumber(), 0);
         int size = pageable.getPageSize();
@@ -106,4 +217,16 @@ public class StudentController {
 
         return pageable;
     }
+
+    private Set<Long> sanitizeIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty() || ids.contains(null)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.batch.ids.required");
+        }
+
+        Set<Long> requested = new LinkedHashSet<>(ids);
+        if (requested.size() > MAX_BATCH_SIZE) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.batch.ids.too-many");
+        }
+        return requested;
+    }
 }
@@ -0,0 +1,100 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.model.Student;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Turns keyset scroll positions into opaque, URL-safe cursor tokens and back.
+ *
+ * <p>A token records the sort it was issued for; presenting it with a different sort is rejected
+ * because the seek predicate would no longer match the ordering.
+ */
+@Component
+class StudentCursorCodec {
+
+    private static final String ID_PROPERTY = "id";
+
+    private final ObjectMapper objectMapper;
+
+    StudentCursorCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    String encode(ScrollPosition position, Sort sort) {
+        if (!(position instanceof KeysetScrollPosition keyset)) {
+            throw new IllegalArgumentException("Only keyset positions can be encoded as cursors");
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(new CursorPayload(signature(sort), keyset.getKeys()));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Could not encode cursor", ex);
+        }
+    }
+
+    KeysetScrollPosition decode(String token, Sort sort) {
+        if (token.isEmpty()) {
+            return ScrollPosition.keyset();
+        }
+
+        CursorPayload payload;
+        try {
+            payload = objectMapper.readValue(Base64.getUrlDecoder().decode(token), CursorPayload.class);
+        } catch (IllegalArgumentException | IOException ex) {
+            throw invalidCursor();
+        }
+
+        if (payload.sort() == null || payload.keys() == null || !payload.sort().equals(signature(sort))) {
+            throw invalidCursor();
+        }
+
+        Set<String> expectedKeys = new LinkedHashSet<>();
+        sort.forEach(order -> expectedKeys.add(order.getProperty()));
+        expectedKeys.add(ID_PROPERTY);
+        if (!payload.keys().keySet().equals(expectedKeys)) {
+            throw invalidCursor();
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        for (String property : expectedKeys) {
+            Object value = payload.keys().get(property);
+            if (value == null) {
+                throw invalidCursor();
+            }
+            Class<?> type = PropertyPath.from(property, Student.class).getType();
+            try {
+                keys.put(property, objectMapper.convertValue(value, type));
+            } catch (IllegalArgumentException ex) {
+                throw invalidCursor();
+            }
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static List<String> signature(Sort sort) {
+        return sort.stream()
+            .map(order -> order.getProperty() + ":" + order.getDirection().name())
+            .toList();
+    }
+
+    private static ResponseStatusException invalidCursor() {
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.page.cursor.invalid");
+    }
+
+    private record CursorPayload(List<String> sort, Map<String, Object> keys) {
+    }
+}
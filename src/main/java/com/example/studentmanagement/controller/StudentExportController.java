@@ -0,0 +1,93 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.config.BinaryFormatConfig;
+import com.example.studentmanagement.service.StudentExportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/students/export")
+public class StudentExportController {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentExportController.class);
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv;charset=UTF-8");
+
+    private final StudentExportService studentExportService;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+
+    public StudentExportController(
+        StudentExportService studentExportService,
+        MappingJackson2CborHttpMessageConverter cborConverter,
+        MappingJackson2SmileHttpMessageConverter smileConverter
+    ) {
+        this.studentExportService = studentExportService;
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.smileMapper = smileConverter.getObjectMapper();
+    }
+
+    /**
+     * Streams all students. A client that disconnects mid-export only ends the stream; the cursor is
+     * released and nothing is reported as a server error.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+        @RequestParam(name = "format", defaultValue = "ndjson") String format
+    ) {
+        return switch (format) {
+            case "ndjson" -> stream(MediaType.APPLICATION_NDJSON, "students.ndjson", out -> {
+                try {
+                    studentExportService.exportNdjson(out);
+                } catch (IOException ex) {
+                    log.debug("Student NDJSON export aborted: {}", ex.getMessage());
+                }
+            });
+            case "csv" -> stream(TEXT_CSV, "students.csv", out -> {
+                try {
+                    studentExportService.exportCsv(out);
+                } catch (IOException ex) {
+                    log.debug("Student CSV export aborted: {}", ex.getMessage());
+                }
+            });
+            case "cbor" -> binary(BinaryFormatConfig.APPLICATION_CBOR_SEQ, "students.cbor", cborMapper);
+            case "smile" -> binary(BinaryFormatConfig.APPLICATION_SMILE, "students.smile", smileMapper);
+            default -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.export.format.invalid");
+        };
+    }
+
+    private ResponseEntity<StreamingResponseBody> binary(MediaType contentType, String filename, ObjectMapper mapper) {
+        return stream(contentType, filename, out -> {
+            try {
+                studentExportService.exportSequence(out, mapper);
+            } catch (IOException ex) {
+                log.debug("Student {} export aborted: {}", filename, ex.getMessage());
+            }
+        });
+    }
+
+    private static ResponseEntity<StreamingResponseBody> stream(
+        MediaType contentType,
+        String filename,
+        StreamingResponseBody body
+    ) {
+        return ResponseEntity.ok()
+            .contentType(contentType)
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+            .body(body);
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.controller.dto.StudentImportResponse;
+import com.example.studentmanagement.service.StudentImportResult;
+import com.example.studentmanagement.service.StudentImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/students/import")
+public class StudentImportController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final StudentImportService studentImportService;
+    private final MessageSource messageSource;
+
+    public StudentImportController(StudentImportService studentImportService, MessageSource messageSource) {
+        this.studentImportService = studentImportService;
+        this.messageSource = messageSource;
+    }
+
+    @PostMapping(consumes = TEXT_CSV_VALUE)
+    public StudentImportResponse importCsv(HttpServletRequest request) throws IOException {
+        StudentImportResult result = studentImportService.importCsv(openBody(request));
+        return StudentImportResponse.from(result, messageSource, LocaleContextHolder.getLocale());
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public StudentImportResponse importNdjson(HttpServletRequest request) throws IOException {
+        StudentImportResult result = studentImportService.importNdjson(openBody(request));
+        return StudentImportResponse.from(result, messageSource, LocaleContextHolder.getLocale());
+    }
+
+    private Reader openBody(HttpServletRequest request) throws IOException {
+        String encoding = request.getCharacterEncoding();
+        Charset charset = encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+        return new InputStreamReader(request.getInputStream(), charset);
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.config.BinaryFormatConfig;
+import com.example.studentmanagement.config.StudentResponseCacheProperties;
+import com.example.studentmanagement.service.StudentChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Strong ETags and cached serialized bodies for the student read endpoints.
+ *
+ * <p>A single student is tagged with its id and {@code @Version}; a list response with a write
+ * generation that moves on every committed {@link StudentChangedEvent}. Both tags also carry the
+ * start time of this instance: with the in-memory database, ids and versions start over after a
+ * restart, and a tag issued before it must not match a different row. The last version seen per
+ * id is remembered, so a matching {@code If-None-Match} is answered with {@code 304} before the
+ * service is called. Serialized bodies are kept in a byte-bounded cache keyed by resource and tag,
+ * so a repeated read of an unchanged resource skips Jackson as well.
+ *
+ * <p>The body is JSON unless the {@code Accept} header prefers CBOR or Smile. Each encoding gets its
+ * own tag suffix, and therefore its own strong ETag and cache entry, and responses carry
+ * {@code Vary: Accept}.
+ *
+ * <p>Only writes that go through the service layer of this instance are seen. Writes made
+ * elsewhere show up once the remembered version is evicted or the process restarts.
+ */
+@Component
+class StudentResponseCache {
+
+    private final Representation json;
+    private final List<Representation> representations;
+    private final Cache<String, byte[]> bodies;
+    private final Cache<Long, Long> versions;
+    private final AtomicLong generation = new AtomicLong();
+    private final String epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+
+    StudentResponseCache(
+        ObjectMapper objectMapper,
+        MappingJackson2CborHttpMessageConverter cborConverter,
+        MappingJackson2SmileHttpMessageConverter smileConverter,
+        StudentResponseCacheProperties properties
+    ) {
+        this.json = new Representation(MediaType.APPLICATION_JSON, "", objectMapper);
+        this.representations = List.of(
+            json,
+            new Representation(MediaType.APPLICATION_CBOR, "-cbor", cborConverter.getObjectMapper()),
+            new Representation(BinaryFormatConfig.APPLICATION_SMILE, "-smile", smileConverter.getObjectMapper())
+        );
+        this.bodies = Caffeine.newBuilder()
+            .maximumWeight(properties.maxSize().toBytes())
+            .<String, byte[]>weigher((key, body) -> key.length() + body.length)
+            .build();
+        this.versions = Caffeine.newBuilder()
+            .maximumSize(properties.maxTrackedVersions())
+            .build();
+    }
+
+    /**
+     * Serves one entity. {@code versionOf} must return the version of the loaded value.
+     */
+    <T> ResponseEntity<byte[]> entity(
+        WebRequest request,
+        String resource,
+        Long id,
+        Supplier<T> loader,
+        Function<T, Long> versionOf
+    ) {
+        Representation representation = negotiate(request);
+        Long known = versions.getIfPresent(id);
+        if (known != null) {
+            String etag = entityTag(resource, id, known, representation);
+            if (request.checkNotModified(etag)) {
+                return null;
+            }
+            byte[] body = bodies.getIfPresent(etag);
+            if (body != null) {
+                return ok(etag, representation, body);
+            }
+        }
+
+        long observed = generation.get();
+        T value = loader.get();
+        Long version = versionOf.apply(value);
+        versions.put(id, version);
+        if (generation.get() != observed) {
+            // A write committed while loading; do not trust what was read.
+            versions.invalidate(id);
+        }
+
+        String etag = entityTag(resource, id, version, representation);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ok(etag, representation, bodies.get(etag, key -> representation.serialize(value)));
+    }
+
+    /**
+     * Serves a collection view identified by {@code query}, which must contain every request
+     * parameter that shapes the response. {@code loader} gets the write generation observed before
+     * loading; reads it shares with other requests must be keyed on it, or a request that arrives
+     * after a write could be handed rows read before it and store them under the new tag.
+     */
+    ResponseEntity<byte[]> collection(WebRequest request, String resource, String query, LongFunction<?> loader) {
+        Representation representation = negotiate(request);
+        long observed = generation.get();
+        String etag = collectionTag(resource, observed, representation);
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        String key = etag + "?" + query;
+        byte[] body = bodies.getIfPresent(key);
+        if (body != null) {
+            return ok(etag, representation, body);
+        }
+
+        body = representation.serialize(loader.apply(observed));
+        if (generation.get() == observed) {
+            bodies.put(key, body);
+        }
+        // On a concurrent write the old tag is still returned; it no longer matches, so the
+        // client's next conditional request fetches a fresh copy.
+        return ok(etag, representation, body);
+    }
+
+    /**
+     * Forgets everything; for writes that bypass the service layer.
+     */
+    void invalidateAll() {
+        generation.incrementAndGet();
+        versions.invalidateAll();
+        bodies.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        generation.incrementAndGet();
+        versions.invalidate(event.id());
+    }
+
+    /**
+     * The most preferred acceptable type decides; a wildcard or an unparseable header means JSON.
+     */
+    private Representation negotiate(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null) {
+            return json;
+        }
+
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException ex) {
+            return json;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : accepted) {
+            for (Representation representation : representations) {
+                if (type.includes(representation.mediaType())) {
+                    return representation;
+                }
+            }
+        }
+        return json;
+    }
+
+    private String entityTag(String resource, Long id, Long version, Representation representation) {
+        return "\"" + resource + "-" + epoch + "-" + id + "-v" + version + representation.tagSuffix() + "\"";
+    }
+
+    private String collectionTag(String resource, long generation, Representation representation) {
+        return "\"" + resource + "-" + epoch + "-g" + generation + representation.tagSuffix() + "\"";
+    }
+
+    private static ResponseEntity<byte[]> ok(String etag, Representation representation, byte[] body) {
+        return ResponseEntity.ok()
+            .eTag(etag)
+            .contentType(representation.mediaType())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+            .body(body);
+    }
+
+    private record Representation(MediaType mediaType, String tagSuffix, ObjectMapper mapper) {
+
+        byte[] serialize(Object value) {
+            try {
+                return mapper.writeValueAsBytes(value);
+            } catch (JsonProcessingException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.controller.dto.StudentSearchHit;
+import com.example.studentmanagement.service.StudentSearchIndex;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/v1/students/search")
+public class StudentSearchController {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final StudentSearchIndex studentSearchIndex;
+
+    public StudentSearchController(StudentSearchIndex studentSearchIndex) {
+        this.studentSearchIndex = studentSearchIndex;
+    }
+
+    @GetMapping
+    public List<StudentSearchHit> search(
+        @RequestParam(name = "q", required = false) String query,
+        @RequestParam(name = "limit", defaultValue = "" + DEFAULT_LIMIT) int limit
+    ) {
+        if (!StringUtils.hasText(query)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.search.query.required");
+        }
+        if (limit < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.search.limit.invalid");
+        }
+
+        return studentSearchIndex.search(query, Math.min(limit, MAX_LIMIT)).stream()
+            .map(StudentSearchHit::from)
+            .toList();
+    }
+}
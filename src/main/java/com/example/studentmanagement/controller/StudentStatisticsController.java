@@ -0,0 +1,36 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.service.StudentStatistics;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Summary counters for the frontend, read from {@link StudentStatistics} on every page load.
+ */
+@RestController
+@RequestMapping("/api/v1/students/stats")
+public class StudentStatisticsController {
+
+    private static final int DEFAULT_DOMAIN_LIMIT = 10;
+    private static final int MAX_DOMAIN_LIMIT = 100;
+
+    private final StudentStatistics studentStatistics;
+
+    public StudentStatisticsController(StudentStatistics studentStatistics) {
+        this.studentStatistics = studentStatistics;
+    }
+
+    @GetMapping
+    public StudentStatistics.Snapshot statistics(
+        @RequestParam(name = "domains", defaultValue = "" + DEFAULT_DOMAIN_LIMIT) int domains
+    ) {
+        if (domains < 1) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "error.analytics.limit.invalid");
+        }
+        return studentStatistics.snapshot(Math.min(domains, MAX_DOMAIN_LIMIT));
+    }
+}
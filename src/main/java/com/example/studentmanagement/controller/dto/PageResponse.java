@@ -1,27 +1,90 @@
 package com.example.studentmanagement.controller.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.List;
 import java.util.stream.StreamSupport;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record PageResponse<T>(
     List<T> content,
-    PageMetadata page
+    PageMetadata page,
+    String nextCursor
 ) {
 
     public static <T> PageResponse<T> from(Page<T> page) {
         return new PageResponse<>(
             List.copyOf(page.getContent()),
-            PageMetadata.from(page)
+            PageMetadata.from(page),
+            null
         );
     }
 
+    /**
+     * Count-free mode: {@code last} comes from the extra row the slice query fetched. When an
+     * estimated total is supplied it is reported with {@code totalEstimated=true}, unless this is the
+     * last non-empty page: then the total is known exactly and replaces the estimate.
+     */
+    public static <T> PageResponse<T> from(Slice<T> slice, Long estimatedTotal) {
+        Long totalElements = null;
+        Integer totalPages = null;
+        Boolean totalEstimated = null;
+        if (estimatedTotal != null) {
+            long seen = slice.getPageable().getOffset() + slice.getNumberOfElements();
+            boolean exact = !slice.hasNext() && (slice.hasContent() || slice.isFirst());
+            totalElements = exact ? seen : Math.max(estimatedTotal, slice.hasNext() ? seen + 1 : seen);
+            totalPages = (int) Math.ceil((double) totalElements / slice.getSize());
+            totalEstimated = !exact;
+        }
+
+        return new PageResponse<>(
+            List.copyOf(slice.getContent()),
+            new PageMetadata(
+                slice.getNumber(),
+                slice.getSize(),
+                totalElements,
+                totalPages,
+                totalEstimated,
+                slice.isFirst(),
+                slice.isLast(),
+                slice.getNumberOfElements(),
+                PageMetadata.describe(slice.getSort())
+            ),
+            null
+        );
+    }
+
+    /**
+     * Cursor mode: there is no page number or total, only the token that continues after the last row.
+     */
+    public static <T> PageResponse<T> from(Window<T> window, int size, Sort sort, boolean first, String nextCursor) {
+        return new PageResponse<>(
+            List.copyOf(window.getContent()),
+            new PageMetadata(
+                null,
+                size,
+                null,
+                null,
+                null,
+                first,
+                !window.hasNext(),
+                window.size(),
+                PageMetadata.describe(sort)
+            ),
+            nextCursor
+        );
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public record PageMetadata(
-        int number,
+        Integer number,
         int size,
-        long totalElements,
-        int totalPages,
+        Long totalElements,
+        Integer totalPages,
+        Boolean totalEstimated,
         boolean first,
         boolean last,
         int numberOfElements,
@@ -29,21 +92,24 @@ public record PageResponse<T>(
     ) {
 
         private static <T> PageMetadata from(Page<T> page) {
-            List<SortDescriptor> sortDescriptors = StreamSupport.stream(page.getSort().spliterator(), false)
-                .map(SortDescriptor::from)
-                .toList();
-
             return new PageMetadata(
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
                 page.getTotalPages(),
+                null,
                 page.isFirst(),
                 page.isLast(),
                 page.getNumberOfElements(),
-                sortDescriptors
+                describe(page.getSort())
             );
         }
+
+        private static List<SortDescriptor> describe(Sort sort) {
+            return StreamSupport.stream(sort.spliterator(), false)
+                .map(SortDescriptor::from)
+                .toList();
+        }
     }
 
     public record SortDescriptor(
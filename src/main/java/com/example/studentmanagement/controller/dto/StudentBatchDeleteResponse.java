@@ -0,0 +1,9 @@
+package com.example.studentmanagement.controller.dto;
+
+import java.util.List;
+
+public record StudentBatchDeleteResponse(
+    List<Long> deletedIds,
+    List<Long> missingIds
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.studentmanagement.controller.dto;
+
+import com.example.studentmanagement.model.Student;
+import java.util.List;
+
+public record StudentBatchResponse(
+    List<Student> students,
+    List<Long> missingIds
+) {
+}
@@ -0,0 +1,46 @@
+package com.example.studentmanagement.controller.dto;
+
+import com.example.studentmanagement.service.StudentImportResult;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.context.MessageSource;
+
+public record StudentImportResponse(
+    long received,
+    long imported,
+    long failed,
+    boolean aborted,
+    boolean errorsTruncated,
+    List<RowError> errors
+) {
+
+    public static StudentImportResponse from(StudentImportResult result, MessageSource messageSource, Locale locale) {
+        List<RowError> errors = result.errors().stream()
+            .map(error -> new RowError(
+                error.row(),
+                error.field(),
+                error.messageKey() == null
+                    ? error.message()
+                    : messageSource.getMessage(error.messageKey(), error.messageArgs(), error.messageKey(), locale),
+                error.rejectedValue()
+            ))
+            .toList();
+
+        return new StudentImportResponse(
+            result.received(),
+            result.imported(),
+            result.failed(),
+            result.aborted(),
+            result.errorsTruncated(),
+            errors
+        );
+    }
+
+    public record RowError(
+        long row,
+        String field,
+        String message,
+        Object rejectedValue
+    ) {
+    }
+}
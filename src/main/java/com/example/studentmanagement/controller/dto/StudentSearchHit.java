@@ -0,0 +1,15 @@
+package com.example.studentmanagement.controller.dto;
+
+import com.example.studentmanagement.service.StudentSearchIndex;
+
+public record StudentSearchHit(
+    Long id,
+    String firstName,
+    String lastName,
+    String email
+) {
+
+    public static StudentSearchHit from(StudentSearchIndex.Document document) {
+        return new StudentSearchHit(document.id(), document.firstName(), document.lastName(), document.email());
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.studentmanagement.exception;
+
+public class DuplicateStudentEmailException extends RuntimeException {
+
+    private final String email;
+    private final String messageKey;
+
+    public DuplicateStudentEmailException(String email) {
+        super("Email is already in use: " + email);
+        this.email = email;
+        this.messageKey = "error.student.email.duplicate";
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getMessageKey() {
+        return messageKey;
+    }
+}
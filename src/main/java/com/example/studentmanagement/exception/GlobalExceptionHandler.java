@@ -5,9 +5,11 @@ import java.util.List;
 import java.util.Locale;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.mapping.PropertyReferenceException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -83,6 +85,57 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
     }
 
+    @ExceptionHandler(DuplicateStudentEmailException.class)
+    public ResponseEntity<ApiErrorResponse> handleDuplicateStudentEmail(
+        DuplicateStudentEmailException ex,
+        HttpServletRequest request
+    ) {
+        String message = messageSource.getMessage(ex.getMessageKey(), null, LocaleContextHolder.getLocale());
+        ApiErrorResponse.FieldValidationError error = new ApiErrorResponse.FieldValidationError(
+            "email",
+            message,
+            ex.getEmail()
+        );
+        ApiErrorResponse body = buildResponse(HttpStatus.CONFLICT, message, request.getRequestURI(), List.of(error));
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    /**
+     * Last line of defence for writes that slipped past the in-memory checks, e.g. two concurrent
+     * requests claiming the same email.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiErrorResponse> handleDataIntegrityViolation(
+        DataIntegrityViolationException ex,
+        HttpServletRequest request
+    ) {
+        String cause = String.valueOf(ex.getMostSpecificCause().getMessage());
+        boolean duplicateEmail = cause.toLowerCase(Locale.ROOT).contains("uk_students_email");
+        String message = messageSource.getMessage(
+            duplicateEmail ? "error.student.email.duplicate" : "error.data.conflict",
+            null,
+            LocaleContextHolder.getLocale()
+        );
+        List<ApiErrorResponse.FieldValidationError> errors = duplicateEmail
+            ? List.of(new ApiErrorResponse.FieldValidationError("email", message, null))
+            : List.of();
+        ApiErrorResponse body = buildResponse(HttpStatus.CONFLICT, message, request.getRequestURI(), errors);
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    /**
+     * Another request updated the same student between this request's read and its write.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiErrorResponse> handleOptimisticLockingFailure(
+        ObjectOptimisticLockingFailureException ex,
+        HttpServletRequest request
+    ) {
+        String message = messageSource.getMessage("error.student.concurrent-update", null, LocaleContextHolder.getLocale());
+        ApiErrorResponse body = buildResponse(HttpStatus.CONFLICT, message, request.getRequestURI(), List.of());
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
     @ExceptionHandler(ResponseStatusException.class)
     public ResponseEntity<ApiErrorResponse> handleResponseStatus(
         ResponseStatusException ex,
@@ -0,0 +1,70 @@
+package com.example.studentmanagement.metrics;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Counts the SQL statements executed on the current thread while a scope is open.
+ *
+ * <p>Scopes nest: a statement is counted by every open scope on the thread, so a request-level
+ * scope still sees statements run inside a narrower one.
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static void record(QueryType type, long elapsedNanos) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.counts.merge(type, 1, Integer::sum);
+            scope.elapsedNanos += elapsedNanos;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<QueryType, Integer> counts = new EnumMap<>(QueryType.class);
+        private long elapsedNanos;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        public int count() {
+            return counts.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        public int count(QueryType type) {
+            return counts.getOrDefault(type, 0);
+        }
+
+        public long elapsedNanos() {
+            return elapsedNanos;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+    }
+}
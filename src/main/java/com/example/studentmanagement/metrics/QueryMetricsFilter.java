@@ -0,0 +1,60 @@
+package com.example.studentmanagement.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records how many SQL statements each request ran and how long they took in total, tagged like
+ * {@code http.server.requests} ({@code method}, {@code uri} template) so the two can be lined up.
+ *
+ * <p>Only requests that reached a handler with a URI template are recorded, which keeps static
+ * resources and unknown paths out of the tag space.
+ */
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    static final String QUERIES_METRIC = "http.server.requests.db.queries";
+    static final String TIME_METRIC = "http.server.requests.db.time";
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+        HttpServletRequest request,
+        HttpServletResponse response,
+        FilterChain filterChain
+    ) throws ServletException, IOException {
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            filterChain.doFilter(request, response);
+
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (uri == null) {
+                return;
+            }
+            DistributionSummary.builder(QUERIES_METRIC)
+                .description("SQL statements executed per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri.toString())
+                .register(meterRegistry)
+                .record(scope.count());
+            Timer.builder(TIME_METRIC)
+                .description("Total SQL execution time per request")
+                .tag("method", request.getMethod())
+                .tag("uri", uri.toString())
+                .register(meterRegistry)
+                .record(scope.elapsedNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.studentmanagement.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Times every JDBC statement as {@code db.query} (tagged by statement type and outcome) and feeds
+ * the per-thread {@link QueryCounter}. A JDBC batch counts as one statement.
+ */
+public class QueryMetricsListener implements QueryExecutionListener {
+
+    static final String METRIC = "db.query";
+
+    private static final String STARTED_AT = QueryMetricsListener.class.getName() + ".startedAt";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public QueryMetricsListener(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // ExecutionInfo#getElapsedTime is in whole milliseconds; most statements finish well below that.
+        execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        QueryType type = queryInfoList.isEmpty() ? QueryType.OTHER : QueryType.of(queryInfoList.get(0).getQuery());
+        Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+        long elapsedNanos = startedAt == null
+            ? TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime())
+            : System.nanoTime() - startedAt;
+        QueryCounter.record(type, elapsedNanos);
+
+        Timer timer = timer(type, execInfo.isSuccess());
+        if (timer != null) {
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(QueryType type, boolean success) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return null;
+        }
+        String outcome = success ? "success" : "error";
+        return timers.computeIfAbsent(type.tagValue() + ":" + outcome, key -> Timer.builder(METRIC)
+            .description("JDBC statement execution time")
+            .tag("type", type.tagValue())
+            .tag("outcome", outcome)
+            .register(registry));
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.studentmanagement.metrics;
+
+import java.util.Locale;
+
+/**
+ * Statement classification used for metric tags and {@link QueryCounter}. Id-sequence fetches are
+ * kept apart from ordinary SELECTs because the pooled generator only issues them every
+ * allocation-size inserts.
+ */
+public enum QueryType {
+    SELECT,
+    INSERT,
+    UPDATE,
+    DELETE,
+    SEQUENCE,
+    OTHER;
+
+    static QueryType of(String sql) {
+        String trimmed = sql.stripLeading();
+        if (trimmed.toLowerCase(Locale.ROOT).contains("next value for")) {
+            return SEQUENCE;
+        }
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return switch (trimmed.substring(0, end).toLowerCase(Locale.ROOT)) {
+            case "select", "with" -> SELECT;
+            case "insert" -> INSERT;
+            case "update" -> UPDATE;
+            case "delete" -> DELETE;
+            default -> OTHER;
+        };
+    }
+
+    String tagValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
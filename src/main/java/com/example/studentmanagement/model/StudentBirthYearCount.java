@@ -0,0 +1,7 @@
+package com.example.studentmanagement.model;
+
+/**
+ * Number of students born in {@code year}, as aggregated by the database.
+ */
+public record StudentBirthYearCount(int year, long count) {
+}
@@ -0,0 +1,8 @@
+package com.example.studentmanagement.model;
+
+/**
+ * Number of students whose email is at {@code domain} (lower-cased, after the first {@code @}), as
+ * aggregated by the database.
+ */
+public record StudentEmailDomainCount(String domain, long count) {
+}
@@ -0,0 +1,21 @@
+package com.example.studentmanagement.model;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Past;
+import jakarta.validation.constraints.Size;
+import java.time.LocalDate;
+
+/**
+ * Partial update of a {@link Student}. A {@code null} field is left unchanged.
+ */
+public record StudentPatch(
+    @Size(max = 100) String firstName,
+    @Size(max = 100) String lastName,
+    @Email @Size(max = 150) String email,
+    @Past LocalDate dateOfBirth
+) {
+
+    public boolean isEmpty() {
+        return firstName == null && lastName == null && email == null && dateOfBirth == null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.studentmanagement.model;
+
+import java.time.LocalDate;
+
+/**
+ * Read-only copy of a {@link Student} row for list and export queries. It is not an entity, so
+ * Hibernate keeps neither a managed instance nor a dirty-checking snapshot for it. Serializes to the
+ * same JSON as {@link Student}.
+ */
+public record StudentView(
+    Long id,
+    String firstName,
+    String lastName,
+    String email,
+    LocalDate dateOfBirth,
+    Long version
+) {
+
+    public static StudentView of(Student student) {
+        return new StudentView(
+            student.getId(),
+            student.getFirstName(),
+            student.getLastName(),
+            student.getEmail(),
+            student.getDateOfBirth(),
+            student.getVersion()
+        );
+    }
+}
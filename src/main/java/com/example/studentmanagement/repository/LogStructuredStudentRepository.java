@@ -0,0 +1,842 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.config.StudentLogStorageProperties;
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentBirthYearCount;
+import com.example.studentmanagement.model.StudentEmailDomainCount;
+import com.example.studentmanagement.model.StudentPatch;
+import com.example.studentmanagement.model.StudentView;
+import jakarta.persistence.EntityNotFoundException;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.OffsetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.mapping.PropertyPath;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.query.FluentQuery;
+import org.springframework.data.support.ExampleMatcherAccessor;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link StudentRepository} without a database, active with the {@code log-storage} profile.
+ *
+ * <p>All rows live in memory in an id-ordered skip list, next to a unique email index; every write
+ * is first appended to a {@link StudentLog} and compacted into a snapshot in the background or once
+ * the log passes {@code app.students.log-storage.snapshot-threshold}. On startup the rows are
+ * recovered from the snapshot plus the log.
+ *
+ * <p>Writes are serialized and each one is atomic on its own: a {@link #saveAll} that violates the
+ * email constraint writes nothing. There are no multi-statement transactions, so a rolled-back
+ * service transaction does not undo the writes it already made. Reads never block. Keyset scrolling
+ * by {@code id} seeks straight to the cursor in the skip list, so every page costs the same. Sorting
+ * or scrolling by anything else sorts a copy of the rows per query, which is fine for this table
+ * size but not for millions of rows. Query-by-example scans all rows as well.
+ */
+@Repository
+@Profile("log-storage")
+public class LogStructuredStudentRepository implements StudentRepository, DisposableBean {
+
+    private static final String ID_PROPERTY = "id";
+    private static final String EMAIL_CONSTRAINT_VIOLATION =
+        "Unique index or primary key violation: uk_students_email";
+    private static final Field VERSION_FIELD = versionField();
+    private static final List<String> PROPERTIES = List.of("id", "firstName", "lastName", "email", "dateOfBirth", "version");
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    private final StudentLog log;
+    private final long snapshotThreshold;
+    private final ConcurrentSkipListMap<Long, StudentView> rows = new ConcurrentSkipListMap<>();
+    private final Map<String, Long> idsByEmail = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+    private long nextId;
+
+    public LogStructuredStudentRepository(StudentLogStorageProperties properties) throws IOException {
+        this.log = new StudentLog(properties.directory(), properties.segmentSize().toBytes(), properties.fsync());
+        this.snapshotThreshold = properties.snapshotThreshold().toBytes();
+
+        StudentLog.Recovered recovered = log.recover();
+        rows.putAll(recovered.rows());
+        rows.values().forEach(row -> idsByEmail.put(row.email(), row.id()));
+        nextId = recovered.nextId();
+    }
+
+    // Writes
+
+    @Override
+    public <S extends Student> S save(S entity) {
+        return saveAll(List.of(entity)).get(0);
+    }
+
+    @Override
+    public <S extends Student> List<S> saveAll(Iterable<S> entities) {
+        List<S> students = StreamSupport.stream(entities.spliterator(), false).toList();
+        synchronized (writeLock) {
+            long next = nextId;
+            Map<String, Long> claimedEmails = new HashMap<>();
+            List<StudentView> changed = new ArrayList<>(students.size());
+            List<Long> ids = new ArrayList<>(students.size());
+            List<Long> versions = new ArrayList<>(students.size());
+
+            for (Student student : students) {
+                requireColumns(student);
+                StudentView current = student.getId() == null ? null : rows.get(student.getId());
+                if (student.getId() != null && current == null && student.getVersion() != null) {
+                    throw new ObjectOptimisticLockingFailureException(Student.class, student.getId());
+                }
+                if (current != null && student.getVersion() != null && !student.getVersion().equals(current.version())) {
+                    throw new ObjectOptimisticLockingFailureException(Student.class, student.getId());
+                }
+
+                long id = student.getId() != null ? student.getId() : next++;
+                next = Math.max(next, id + 1);
+                Long owner = claimedEmails.containsKey(student.getEmail())
+                    ? claimedEmails.get(student.getEmail())
+                    : idsByEmail.get(student.getEmail());
+                if (owner != null && owner != id) {
+                    throw new DataIntegrityViolationException(EMAIL_CONSTRAINT_VIOLATION);
+                }
+                claimedEmails.put(student.getEmail(), id);
+
+                StudentView row = new StudentView(
+                    id,
+                    student.getFirstName(),
+                    student.getLastName(),
+                    student.getEmail(),
+                    student.getDateOfBirth(),
+                    current == null ? 0L : current.version()
+                );
+                if (current != null && sameContent(current, row)) {
+                    ids.add(id);
+                    versions.add(current.version());
+                    continue;
+                }
+                if (current != null) {
+                    row = withVersion(row, current.version() + 1);
+                }
+                changed.add(row);
+                ids.add(id);
+                versions.add(row.version());
+            }
+
+            write(changed, List.of(), false);
+            nextId = next;
+            for (int i = 0; i < students.size(); i++) {
+                students.get(i).setId(ids.get(i));
+                ReflectionUtils.setField(VERSION_FIELD, students.get(i), versions.get(i));
+            }
+        }
+        return students;
+    }
+
+    @Override
+    public <S extends Student> S saveAndFlush(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends Student> List<S> saveAllAndFlush(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public int patch(Long id, StudentPatch patch) {
+        synchronized (writeLock) {
+            StudentView current = rows.get(id);
+            if (current == null) {
+                return 0;
+            }
+            String email = patch.email() != null ? patch.email() : current.email();
+            Long owner = idsByEmail.get(email);
+            if (owner != null && !owner.equals(id)) {
+                throw new DataIntegrityViolationException(EMAIL_CONSTRAINT_VIOLATION);
+            }
+            StudentView row = new StudentView(
+                id,
+                patch.firstName() != null ? patch.firstName() : current.firstName(),
+                patch.lastName() != null ? patch.lastName() : current.lastName(),
+                email,
+                patch.dateOfBirth() != null ? patch.dateOfBirth() : current.dateOfBirth(),
+                current.version() + 1
+            );
+            write(List.of(row), List.of(), false);
+            return 1;
+        }
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        deleteAllByIdInBatch(List.of(id));
+    }
+
+    @Override
+    public void delete(Student entity) {
+        if (entity.getId() != null) {
+            deleteAllByIdInBatch(List.of(entity.getId()));
+        }
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends Long> ids) {
+        deleteAllByIdInBatch(StreamSupport.stream(ids.spliterator(), false).map(Long.class::cast).toList());
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends Student> entities) {
+        deleteAllInBatch(StreamSupport.stream(entities.spliterator(), false).map(Student.class::cast).toList());
+    }
+
+    @Override
+    public void deleteAllInBatch(Iterable<Student> entities) {
+        deleteAllByIdInBatch(StreamSupport.stream(entities.spliterator(), false)
+            .map(Student::getId)
+            .filter(Objects::nonNull)
+            .toList());
+    }
+
+    @Override
+    public void deleteAllByIdInBatch(Iterable<Long> ids) {
+        synchronized (writeLock) {
+            List<Long> existing = StreamSupport.stream(ids.spliterator(), false)
+                .filter(rows::containsKey)
+                .distinct()
+                .toList();
+            write(List.of(), existing, false);
+        }
+    }
+
+    @Override
+    public void deleteAll() {
+        deleteAllInBatch();
+    }
+
+    @Override
+    public void deleteAllInBatch() {
+        synchronized (writeLock) {
+            write(List.of(), List.of(), true);
+        }
+    }
+
+    @Override
+    public void flush() {
+        // Every write reaches the log before it returns; there is nothing to flush.
+    }
+
+    // Reads
+
+    @Override
+    public Optional<Student> findById(Long id) {
+        return Optional.ofNullable(rows.get(id)).map(LogStructuredStudentRepository::toEntity);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return rows.containsKey(id);
+    }
+
+    @Override
+    public Student getReferenceById(Long id) {
+        return findById(id).orElseThrow(() -> new EntityNotFoundException("Student not found with id: " + id));
+    }
+
+    @Override
+    @Deprecated
+    public Student getById(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    @Deprecated
+    public Student getOne(Long id) {
+        return getReferenceById(id);
+    }
+
+    @Override
+    public List<Student> findAll() {
+        return rows.values().stream().map(LogStructuredStudentRepository::toEntity).toList();
+    }
+
+    @Override
+    public List<Student> findAllById(Iterable<Long> ids) {
+        return StreamSupport.stream(ids.spliterator(), false)
+            .distinct()
+            .map(rows::get)
+            .filter(Objects::nonNull)
+            .map(LogStructuredStudentRepository::toEntity)
+            .toList();
+    }
+
+    @Override
+    public List<Student> findAll(Sort sort) {
+        return sorted(sort).map(LogStructuredStudentRepository::toEntity).toList();
+    }
+
+    @Override
+    public Page<Student> findAll(Pageable pageable) {
+        return findViewPageBy(pageable).map(LogStructuredStudentRepository::toEntity);
+    }
+
+    @Override
+    public long count() {
+        return rows.size();
+    }
+
+    @Override
+    public Page<StudentView> findViewPageBy(Pageable pageable) {
+        List<StudentView> content = page(pageable, pageable.isPaged() ? pageable.getPageSize() : Integer.MAX_VALUE);
+        return PageableExecutionUtils.getPage(content, pageable, rows::size);
+    }
+
+    @Override
+    public Slice<StudentView> findViewSliceBy(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(page(pageable, Integer.MAX_VALUE), pageable, false);
+        }
+        List<StudentView> content = page(pageable, pageable.getPageSize() + 1);
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    @Override
+    public Window<Student> findBy(ScrollPosition position, Sort sort, Limit limit) {
+        return scroll(row -> true, position, sort, limit);
+    }
+
+    @Override
+    public Stream<StudentView> streamAll() {
+        return rows.values().stream();
+    }
+
+    @Override
+    public List<Long> findExistingIds(Collection<Long> ids) {
+        return ids.stream().filter(rows::containsKey).toList();
+    }
+
+    @Override
+    public List<StudentBirthYearCount> countByBirthYear() {
+        return rows.values().stream()
+            .collect(Collectors.groupingBy(row -> row.dateOfBirth().getYear(), Collectors.counting()))
+            .entrySet().stream()
+            .map(entry -> new StudentBirthYearCount(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
+    @Override
+    public List<StudentEmailDomainCount> countByEmailDomain() {
+        return rows.values().stream()
+            .collect(Collectors.groupingBy(
+                row -> row.email().substring(row.email().indexOf('@') + 1).toLowerCase(Locale.ROOT),
+                Collectors.counting()
+            ))
+            .entrySet().stream()
+            .map(entry -> new StudentEmailDomainCount(entry.getKey(), entry.getValue()))
+            .toList();
+    }
+
+    // Query by example, answered by scanning all rows.
+
+    @Override
+    public <S extends Student> Optional<S> findOne(Example<S> example) {
+        return Optional.ofNullable(findBy(example, FluentQuery.FetchableFluentQuery::oneValue));
+    }
+
+    @Override
+    public <S extends Student> List<S> findAll(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::all);
+    }
+
+    @Override
+    public <S extends Student> List<S> findAll(Example<S> example, Sort sort) {
+        return findBy(example, query -> query.sortBy(sort).all());
+    }
+
+    @Override
+    public <S extends Student> Page<S> findAll(Example<S> example, Pageable pageable) {
+        return findBy(example, query -> query.page(pageable));
+    }
+
+    @Override
+    public <S extends Student> long count(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::count);
+    }
+
+    @Override
+    public <S extends Student> boolean exists(Example<S> example) {
+        return findBy(example, FluentQuery.FetchableFluentQuery::exists);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <S extends Student, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        return queryFunction.apply(new ExampleQuery<>(matching(example), Sort.unsorted(), Limit.unlimited(), student -> (S) student));
+    }
+
+    // Snapshots
+
+    /**
+     * Compacts the log into a snapshot when anything was written since the last one.
+     */
+    @Scheduled(
+        initialDelayString = "${app.students.log-storage.snapshot-interval:PT5M}",
+        fixedDelayString = "${app.students.log-storage.snapshot-interval:PT5M}"
+    )
+    public void snapshot() {
+        synchronized (writeLock) {
+            if (log.bytesSinceSnapshot() > 0) {
+                try {
+                    log.snapshot(rows.values(), nextId);
+                } catch (IOException ex) {
+                    throw new DataAccessResourceFailureException("Could not write the student snapshot", ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Snapshots and closes the log, so the next start only has to read the snapshot.
+     */
+    @Override
+    public void destroy() throws IOException {
+        synchronized (writeLock) {
+            snapshot();
+            log.close();
+        }
+    }
+
+    /**
+     * Closes the log without a final snapshot; the next start replays it.
+     */
+    void close() throws IOException {
+        synchronized (writeLock) {
+            log.close();
+        }
+    }
+
+    private void write(List<StudentView> puts, List<Long> deletes, boolean clear) {
+        if (puts.isEmpty() && deletes.isEmpty() && !clear) {
+            return;
+        }
+        try {
+            if (clear) {
+                log.clear();
+            }
+            for (StudentView row : puts) {
+                log.put(row);
+            }
+            for (Long id : deletes) {
+                log.delete(id);
+            }
+            log.commit();
+        } catch (IOException ex) {
+            throw new DataAccessResourceFailureException("Could not append to the student log", ex);
+        }
+
+        if (clear) {
+            rows.clear();
+            idsByEmail.clear();
+        }
+        for (StudentView row : puts) {
+            StudentView previous = rows.put(row.id(), row);
+            if (previous != null && !previous.email().equals(row.email())) {
+                idsByEmail.remove(previous.email(), previous.id());
+            }
+            idsByEmail.put(row.email(), row.id());
+        }
+        for (Long id : deletes) {
+            StudentView previous = rows.remove(id);
+            if (previous != null) {
+                idsByEmail.remove(previous.email(), id);
+            }
+        }
+
+        if (log.bytesSinceSnapshot() >= snapshotThreshold) {
+            snapshot();
+        }
+    }
+
+    /**
+     * Offset or keyset scrolling over the rows accepted by {@code filter}, like the JPA repository's
+     * scroll queries.
+     */
+    private Window<Student> scroll(Predicate<StudentView> filter, ScrollPosition position, Sort sort, Limit limit) {
+        int size = limit.isLimited() ? limit.max() : Integer.MAX_VALUE;
+
+        if (position instanceof OffsetScrollPosition offset) {
+            long start = offset.isInitial() ? 0 : offset.getOffset() + 1;
+            List<StudentView> content = sorted(sort).filter(filter).skip(start).limit(size + 1L).toList();
+            return window(content, size, offset.positionFunction()::apply);
+        }
+
+        KeysetScrollPosition keyset = (KeysetScrollPosition) position;
+        Stream<StudentView> candidates = keyset.isInitial()
+            ? sorted(sort)
+            : beyond(probe(keyset.getKeys()), sort, keyset.scrollsForward());
+        List<StudentView> content = new ArrayList<>(candidates.filter(filter).limit(size + 1L).toList());
+        if (keyset.scrollsBackward() && !keyset.isInitial()) {
+            boolean hasMore = content.size() > size;
+            List<StudentView> page = new ArrayList<>(content.subList(0, Math.min(size, content.size())));
+            Collections.reverse(page);
+            return Window.from(
+                page.stream().map(LogStructuredStudentRepository::toEntity).toList(),
+                index -> ScrollPosition.backward(keysOf(page.get(index), sort)),
+                hasMore
+            );
+        }
+        return window(content, size, index -> ScrollPosition.forward(keysOf(content.get(index), sort)));
+    }
+
+    /**
+     * The rows after {@code seek} in {@code sort} order, or when scrolling backward the rows before
+     * it, nearest first. In id order this is a {@code tailMap}/{@code headMap} view of the skip list;
+     * any other order filters a sorted copy of all rows.
+     */
+    private Stream<StudentView> beyond(StudentView seek, Sort sort, boolean forward) {
+        if (isIdOrder(sort)) {
+            boolean ascending = sort.stream().allMatch(Sort.Order::isAscending);
+            return (ascending == forward ? rows.tailMap(seek.id(), false) : rows.headMap(seek.id(), false).descendingMap())
+                .values()
+                .stream();
+        }
+        Comparator<StudentView> order = comparator(sort);
+        return forward
+            ? sorted(sort).filter(row -> order.compare(row, seek) > 0)
+            : sorted(sort.reverse()).filter(row -> order.compare(row, seek) < 0);
+    }
+
+    private List<StudentView> page(Pageable pageable, int size) {
+        long offset = pageable.isPaged() ? pageable.getOffset() : 0;
+        return sorted(pageable.getSort()).skip(offset).limit(size).toList();
+    }
+
+    /**
+     * All rows in {@code sort} order, with {@code id} as the final tie-breaker like the keyset
+     * queries of the JPA repository. Id order needs no sorting.
+     */
+    private Stream<StudentView> sorted(Sort sort) {
+        if (isIdOrder(sort)) {
+            boolean descending = sort.stream().anyMatch(Sort.Order::isDescending);
+            return (descending ? rows.descendingMap() : rows).values().stream();
+        }
+        return rows.values().stream().sorted(comparator(sort));
+    }
+
+    private static boolean isIdOrder(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        return orders.isEmpty() || (orders.size() == 1 && ID_PROPERTY.equals(orders.get(0).getProperty()));
+    }
+
+    private static Comparator<StudentView> comparator(Sort sort) {
+        Comparator<StudentView> comparator = null;
+        boolean hasId = false;
+        for (Sort.Order order : sort) {
+            String property = PropertyPath.from(order.getProperty(), Student.class).getSegment();
+            hasId |= ID_PROPERTY.equals(property);
+            Comparator<StudentView> next = Comparator.comparing(row -> comparable(row, property, order.isIgnoreCase()));
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        Comparator<StudentView> byId = Comparator.comparing(StudentView::id);
+        if (comparator == null) {
+            return byId;
+        }
+        return hasId ? comparator : comparator.thenComparing(byId);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable comparable(StudentView row, String property, boolean ignoreCase) {
+        Object value = value(row, property);
+        if (ignoreCase && value instanceof String text) {
+            return text.toLowerCase(Locale.ROOT);
+        }
+        return (Comparable) value;
+    }
+
+    private static Object value(StudentView row, String property) {
+        return switch (property) {
+            case "id" -> row.id();
+            case "firstName" -> row.firstName();
+            case "lastName" -> row.lastName();
+            case "email" -> row.email();
+            case "dateOfBirth" -> row.dateOfBirth();
+            case "version" -> row.version();
+            default -> throw new IllegalArgumentException("Unknown student property: " + property);
+        };
+    }
+
+    private static Map<String, Object> keysOf(StudentView row, Sort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        sort.forEach(order -> keys.put(order.getProperty(), value(row, order.getProperty())));
+        keys.put(ID_PROPERTY, row.id());
+        return keys;
+    }
+
+    /**
+     * A row holding only the keyset values, to compare real rows against.
+     */
+    private static StudentView probe(Map<String, ?> keys) {
+        return new StudentView(
+            (Long) keys.get("id"),
+            (String) keys.get("firstName"),
+            (String) keys.get("lastName"),
+            (String) keys.get("email"),
+            (LocalDate) keys.get("dateOfBirth"),
+            (Long) keys.get("version")
+        );
+    }
+
+    private static Window<Student> window(
+        List<StudentView> content,
+        int size,
+        IntFunction<? extends ScrollPosition> positions
+    ) {
+        boolean hasNext = content.size() > size;
+        List<Student> students = content.stream()
+            .limit(size)
+            .map(LogStructuredStudentRepository::toEntity)
+            .toList();
+        return Window.from(students, positions, hasNext);
+    }
+
+    private static boolean sameContent(StudentView current, StudentView row) {
+        return current.firstName().equals(row.firstName())
+            && current.lastName().equals(row.lastName())
+            && current.email().equals(row.email())
+            && current.dateOfBirth().equals(row.dateOfBirth());
+    }
+
+    private static StudentView withVersion(StudentView row, long version) {
+        return new StudentView(row.id(), row.firstName(), row.lastName(), row.email(), row.dateOfBirth(), version);
+    }
+
+    private static void requireColumns(Student student) {
+        if (student.getFirstName() == null || student.getLastName() == null
+            || student.getEmail() == null || student.getDateOfBirth() == null) {
+            throw new DataIntegrityViolationException("NULL not allowed for a column of STUDENTS");
+        }
+    }
+
+    private static Student toEntity(StudentView row) {
+        Student student = new Student(row.firstName(), row.lastName(), row.email(), row.dateOfBirth());
+        student.setId(row.id());
+        ReflectionUtils.setField(VERSION_FIELD, student, row.version());
+        return student;
+    }
+
+    private static Field versionField() {
+        Field field = ReflectionUtils.findField(Student.class, "version");
+        ReflectionUtils.makeAccessible(Objects.requireNonNull(field));
+        return field;
+    }
+
+    /**
+     * The rows an {@link Example} selects, following the JPA semantics: every non-null probe
+     * property that is not ignored becomes a predicate, strings are compared with the configured
+     * {@link ExampleMatcher.StringMatcher}, and the predicates are combined with all- or
+     * any-matching.
+     */
+    private static Predicate<StudentView> matching(Example<? extends Student> example) {
+        ExampleMatcherAccessor accessor = new ExampleMatcherAccessor(example.getMatcher());
+        StudentView probe = StudentView.of(example.getProbe());
+
+        List<Predicate<StudentView>> predicates = new ArrayList<>();
+        for (String property : PROPERTIES) {
+            if (accessor.isIgnoredPath(property)) {
+                continue;
+            }
+            Object expected = accessor.getValueTransformerForPath(property)
+                .apply(Optional.ofNullable(value(probe, property)))
+                .orElse(null);
+            if (expected == null) {
+                if (accessor.getNullHandler() == ExampleMatcher.NullHandler.INCLUDE) {
+                    predicates.add(row -> value(row, property) == null);
+                }
+                continue;
+            }
+            if (expected instanceof String text) {
+                Predicate<String> matches = stringMatcher(
+                    text,
+                    accessor.getStringMatcherForPath(property),
+                    accessor.isIgnoreCaseForPath(property)
+                );
+                predicates.add(row -> value(row, property) instanceof String actual && matches.test(actual));
+            } else {
+                predicates.add(row -> expected.equals(value(row, property)));
+            }
+        }
+
+        if (example.getMatcher().isAllMatching()) {
+            return row -> predicates.stream().allMatch(predicate -> predicate.test(row));
+        }
+        return row -> predicates.isEmpty() || predicates.stream().anyMatch(predicate -> predicate.test(row));
+    }
+
+    private static Predicate<String> stringMatcher(String expected, ExampleMatcher.StringMatcher matcher, boolean ignoreCase) {
+        if (matcher == ExampleMatcher.StringMatcher.REGEX) {
+            Pattern pattern = Pattern.compile(expected, ignoreCase ? Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE : 0);
+            return actual -> pattern.matcher(actual).matches();
+        }
+        String probe = ignoreCase ? expected.toLowerCase(Locale.ROOT) : expected;
+        return actual -> {
+            String value = ignoreCase ? actual.toLowerCase(Locale.ROOT) : actual;
+            return switch (matcher) {
+                case STARTING -> value.startsWith(probe);
+                case ENDING -> value.endsWith(probe);
+                case CONTAINING -> value.contains(probe);
+                default -> value.equals(probe);
+            };
+        };
+    }
+
+    /**
+     * Maps students onto {@code type}: the entity itself, a {@link StudentView}, or an interface
+     * projection.
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> Function<Student, R> projection(Class<R> type) {
+        if (type.isAssignableFrom(Student.class)) {
+            return student -> (R) student;
+        }
+        if (type == StudentView.class) {
+            return student -> (R) StudentView.of(student);
+        }
+        if (type.isInterface()) {
+            return student -> PROJECTIONS.createProjection(type, student);
+        }
+        throw new IllegalArgumentException("Students cannot be projected onto " + type.getName());
+    }
+
+    /**
+     * The fluent query behind {@link #findBy(Example, Function)}. Property selection via
+     * {@code project} is accepted but changes nothing, since whole rows are in memory anyway.
+     */
+    private final class ExampleQuery<T> implements FluentQuery.FetchableFluentQuery<T> {
+
+        private final Predicate<StudentView> filter;
+        private final Sort sort;
+        private final Limit limit;
+        private final Function<Student, T> mapper;
+
+        private ExampleQuery(Predicate<StudentView> filter, Sort sort, Limit limit, Function<Student, T> mapper) {
+            this.filter = filter;
+            this.sort = sort;
+            this.limit = limit;
+            this.mapper = mapper;
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> sortBy(Sort sort) {
+            return new ExampleQuery<>(filter, this.sort.and(sort), limit, mapper);
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> limit(int limit) {
+            return new ExampleQuery<>(filter, sort, Limit.of(limit), mapper);
+        }
+
+        @Override
+        public <R> FluentQuery.FetchableFluentQuery<R> as(Class<R> resultType) {
+            return new ExampleQuery<>(filter, sort, limit, projection(resultType));
+        }
+
+        @Override
+        public FluentQuery.FetchableFluentQuery<T> project(Collection<String> properties) {
+            return this;
+        }
+
+        @Override
+        public T oneValue() {
+            List<T> matches = stream().limit(2).toList();
+            if (matches.size() > 1) {
+                throw new IncorrectResultSizeDataAccessException(1);
+            }
+            return matches.isEmpty() ? null : matches.get(0);
+        }
+
+        @Override
+        public T firstValue() {
+            return stream().findFirst().orElse(null);
+        }
+
+        @Override
+        public List<T> all() {
+            return stream().toList();
+        }
+
+        @Override
+        public Window<T> scroll(ScrollPosition position) {
+            return LogStructuredStudentRepository.this.scroll(filter, position, sort, limit).map(mapper);
+        }
+
+        @Override
+        public Page<T> page(Pageable pageable) {
+            Sort order = pageable.getSort().isSorted() ? pageable.getSort() : sort;
+            Stream<StudentView> matches = sorted(order).filter(filter);
+            if (pageable.isPaged()) {
+                matches = matches.skip(pageable.getOffset()).limit(pageable.getPageSize());
+            }
+            List<T> content = matches.map(LogStructuredStudentRepository::toEntity).map(mapper).toList();
+            return PageableExecutionUtils.getPage(content, pageable, this::count);
+        }
+
+        @Override
+        public Stream<T> stream() {
+            Stream<StudentView> matches = sorted(sort).filter(filter);
+            if (limit.isLimited()) {
+                matches = matches.limit(limit.max());
+            }
+            return matches.map(LogStructuredStudentRepository::toEntity).map(mapper);
+        }
+
+        @Override
+        public long count() {
+            return rows.values().stream().filter(filter).count();
+        }
+
+        @Override
+        public boolean exists() {
+            return rows.values().stream().anyMatch(filter);
+        }
+    }
+}
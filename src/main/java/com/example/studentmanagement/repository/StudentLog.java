@@ -0,0 +1,341 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.model.StudentView;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only file storage for {@link LogStructuredStudentRepository}: memory-mapped log segments
+ * plus one compacted snapshot.
+ *
+ * <p>Every write appends a record ({@code PUT} with the full row, {@code DELETE} or {@code CLEAR})
+ * to the current segment, {@code students-<generation>.log}. A record is its payload length, a
+ * CRC32C of the payload and the payload. A segment is mapped with spare room that reads back as
+ * zeros, so recovery stops at the first zero length or bad checksum, which also drops a torn last
+ * write. {@link #snapshot} writes all live rows to {@code students.snapshot} (temp file, fsync,
+ * atomic rename) together with the newest generation it covers, then deletes the covered segments.
+ * Recovery loads the snapshot and replays the newer segments in order; replay is idempotent, so a
+ * crash between the rename and the deletes is harmless.
+ *
+ * <p>Not thread-safe; the repository serializes all calls.
+ */
+final class StudentLog implements Closeable {
+
+    private static final int SNAPSHOT_MAGIC = 0x53545544;
+    private static final int FORMAT_VERSION = 1;
+    private static final String SNAPSHOT_FILE = "students.snapshot";
+    private static final String SEGMENT_PREFIX = "students-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int RECORD_HEADER_BYTES = 2 * Integer.BYTES;
+    private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+    private static final byte PUT = 1;
+    private static final byte DELETE = 2;
+    private static final byte CLEAR = 3;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final boolean fsync;
+    private final CRC32C crc = new CRC32C();
+    private final ByteBuffer scratch = ByteBuffer.allocate(4096);
+
+    private long generation;
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segment;
+    private int unforcedFrom = -1;
+    private long bytesSinceSnapshot;
+    private long maxRecoveredId;
+
+    StudentLog(Path directory, long segmentBytes, boolean fsync) throws IOException {
+        this.directory = Files.createDirectories(directory);
+        this.segmentBytes = segmentBytes;
+        this.fsync = fsync;
+    }
+
+    record Recovered(NavigableMap<Long, StudentView> rows, long nextId) {
+    }
+
+    /**
+     * Rebuilds the rows from the snapshot and the segments written after it. Appends go to a new
+     * segment, created on the first write.
+     */
+    Recovered recover() throws IOException {
+        NavigableMap<Long, StudentView> rows = new TreeMap<>();
+        long covered = 0;
+        long nextId = 1;
+
+        Path snapshot = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshot)) {
+            try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (buffer.getInt() != SNAPSHOT_MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                    throw new IOException("Not a student snapshot: " + snapshot);
+                }
+                covered = buffer.getLong();
+                nextId = buffer.getLong();
+                long count = buffer.getLong();
+                for (long i = 0; i < count; i++) {
+                    if (!replay(buffer, rows)) {
+                        throw new IOException("Corrupt student snapshot: " + snapshot);
+                    }
+                }
+            }
+        }
+
+        generation = covered;
+        for (Path path : segments()) {
+            long segmentGeneration = generationOf(path);
+            generation = Math.max(generation, segmentGeneration);
+            if (segmentGeneration <= covered) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                while (replay(buffer, rows)) {
+                    // Applied in place.
+                }
+                bytesSinceSnapshot += buffer.position();
+            }
+        }
+        return new Recovered(rows, Math.max(nextId, maxRecoveredId + 1));
+    }
+
+    void put(StudentView row) throws IOException {
+        append(encodePut(row));
+    }
+
+    void delete(long id) throws IOException {
+        scratch.clear();
+        scratch.put(DELETE).putLong(id);
+        append(scratch.flip());
+    }
+
+    void clear() throws IOException {
+        scratch.clear();
+        scratch.put(CLEAR);
+        append(scratch.flip());
+    }
+
+    /**
+     * Ends a logical write. With {@code fsync} the appended records are forced to disk; otherwise
+     * they are in the page cache and survive a process crash but not a power loss.
+     */
+    void commit() {
+        if (fsync && segment != null && unforcedFrom >= 0) {
+            segment.force(unforcedFrom, segment.position() - unforcedFrom);
+        }
+        unforcedFrom = -1;
+    }
+
+    long bytesSinceSnapshot() {
+        return bytesSinceSnapshot;
+    }
+
+    /**
+     * Replaces the snapshot with {@code rows}, which must be the complete current state, and drops
+     * the segments it makes redundant.
+     */
+    void snapshot(Collection<StudentView> rows, long nextId) throws IOException {
+        commit();
+        closeSegment();
+        long covered = generation;
+
+        Path target = directory.resolve(SNAPSHOT_FILE);
+        Path temporary = directory.resolve(SNAPSHOT_FILE + ".tmp");
+        try (FileChannel channel = FileChannel.open(
+            temporary,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16));
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(covered);
+            out.writeLong(nextId);
+            out.writeLong(rows.size());
+            for (StudentView row : rows) {
+                ByteBuffer payload = encodePut(row);
+                out.writeInt(payload.remaining());
+                out.writeInt(checksum(payload));
+                out.write(payload.array(), 0, payload.remaining());
+            }
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        for (Path path : segments()) {
+            if (generationOf(path) <= covered) {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException ex) {
+                    // Still mapped on some platforms; recovery skips it because the snapshot covers it.
+                }
+            }
+        }
+        bytesSinceSnapshot = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        commit();
+        closeSegment();
+    }
+
+    private void append(ByteBuffer payload) throws IOException {
+        int recordBytes = RECORD_HEADER_BYTES + payload.remaining();
+        ensureCapacity(recordBytes);
+        if (unforcedFrom < 0) {
+            unforcedFrom = segment.position();
+        }
+        segment.putInt(payload.remaining());
+        segment.putInt(checksum(payload));
+        segment.put(payload);
+        bytesSinceSnapshot += recordBytes;
+    }
+
+    private void ensureCapacity(int recordBytes) throws IOException {
+        if (segment != null && segment.remaining() >= recordBytes) {
+            return;
+        }
+        if (segment != null) {
+            long grown = Math.max((long) segment.capacity() * 2, (long) segment.position() + recordBytes);
+            if (grown <= MAX_SEGMENT_BYTES) {
+                int position = segment.position();
+                segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, grown);
+                segment.position(position);
+                return;
+            }
+            commit();
+            closeSegment();
+        }
+
+        generation++;
+        Path path = directory.resolve(SEGMENT_PREFIX + String.format("%019d", generation) + SEGMENT_SUFFIX);
+        segmentChannel = FileChannel.open(
+            path,
+            StandardOpenOption.CREATE_NEW,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE
+        );
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentBytes, recordBytes));
+    }
+
+    private void closeSegment() throws IOException {
+        if (segmentChannel != null) {
+            segmentChannel.close();
+        }
+        segmentChannel = null;
+        segment = null;
+        unforcedFrom = -1;
+    }
+
+    private boolean replay(ByteBuffer buffer, NavigableMap<Long, StudentView> rows) {
+        if (buffer.remaining() < RECORD_HEADER_BYTES) {
+            return false;
+        }
+        int start = buffer.position();
+        int length = buffer.getInt();
+        int expectedChecksum = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining()) {
+            buffer.position(start);
+            return false;
+        }
+
+        ByteBuffer payload = buffer.slice(buffer.position(), length);
+        if (checksum(payload) != expectedChecksum) {
+            buffer.position(start);
+            return false;
+        }
+        buffer.position(buffer.position() + length);
+
+        try {
+            switch (payload.get()) {
+                case PUT -> {
+                    long id = payload.getLong();
+                    long version = payload.getLong();
+                    LocalDate dateOfBirth = LocalDate.ofEpochDay(payload.getLong());
+                    String firstName = getString(payload);
+                    String lastName = getString(payload);
+                    String email = getString(payload);
+                    rows.put(id, new StudentView(id, firstName, lastName, email, dateOfBirth, version));
+                    maxRecoveredId = Math.max(maxRecoveredId, id);
+                }
+                case DELETE -> rows.remove(payload.getLong());
+                case CLEAR -> rows.clear();
+                default -> {
+                    buffer.position(start);
+                    return false;
+                }
+            }
+        } catch (BufferUnderflowException ex) {
+            buffer.position(start);
+            return false;
+        }
+        return true;
+    }
+
+    private ByteBuffer encodePut(StudentView row) {
+        scratch.clear();
+        scratch.put(PUT).putLong(row.id()).putLong(row.version()).putLong(row.dateOfBirth().toEpochDay());
+        putString(row.firstName());
+        putString(row.lastName());
+        putString(row.email());
+        return scratch.flip();
+    }
+
+    private int checksum(ByteBuffer payload) {
+        crc.reset();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+
+    private void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        scratch.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer payload) {
+        byte[] bytes = new byte[payload.getShort()];
+        payload.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> {
+                    String name = path.getFileName().toString();
+                    return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                })
+                .sorted(Comparator.comparingLong(StudentLog::generationOf))
+                .toList();
+        }
+    }
+
+    private static long generationOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
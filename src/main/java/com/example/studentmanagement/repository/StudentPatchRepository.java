@@ -0,0 +1,17 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.model.StudentPatch;
+
+/**
+ * Custom fragment of {@link StudentRepository} for writes that do not load the entity first.
+ */
+public interface StudentPatchRepository {
+
+    /**
+     * Applies the non-null fields of {@code patch} and increments the version in a single
+     * {@code UPDATE ... WHERE id = ?}.
+     *
+     * @return the number of rows updated: {@code 0} when no student has this id
+     */
+    int patch(Long id, StudentPatch patch);
+}
@@ -0,0 +1,39 @@
+package com.example.studentmanagement.repository;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentPatch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+class StudentPatchRepositoryImpl implements StudentPatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int patch(Long id, StudentPatch patch) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Student> update = builder.createCriteriaUpdate(Student.class);
+        Root<Student> student = update.from(Student.class);
+
+        if (patch.firstName() != null) {
+            update.set(student.<String>get("firstName"), patch.firstName());
+        }
+        if (patch.lastName() != null) {
+            update.set(student.<String>get("lastName"), patch.lastName());
+        }
+        if (patch.email() != null) {
+            update.set(student.<String>get("email"), patch.email());
+        }
+        if (patch.dateOfBirth() != null) {
+            update.set(student.get("dateOfBirth"), patch.dateOfBirth());
+        }
+        update.set(student.<Long>get("version"), builder.sum(student.<Long>get("version"), 1L));
+        update.where(builder.equal(student.get("id"), id));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
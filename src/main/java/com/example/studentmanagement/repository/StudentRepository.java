@@ -1,9 +1,71 @@
 package com.example.studentmanagement.repository;
 
 import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentBirthYearCount;
+import com.example.studentmanagement.model.StudentEmailDomainCount;
+import com.example.studentmanagement.model.StudentView;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository extends JpaRepository<Student, Long>, StudentPatchRepository {
+
+    int STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Keyset ("seek") scrolling: with a {@link org.springframework.data.domain.KeysetScrollPosition}
+     * the query filters on the last seen sort key plus {@code id} instead of using OFFSET.
+     */
+    Window<Student> findBy(ScrollPosition position, Sort sort, Limit limit);
+
+    // Read-only list queries: rows are selected straight into StudentView, so nothing is managed.
+
+    Page<StudentView> findViewPageBy(Pageable pageable);
+
+    Slice<StudentView> findViewSliceBy(Pageable pageable);
+
+    /**
+     * Cursor over all students in id order, fetched {@value #STREAM_FETCH_SIZE} rows per round trip
+     * as {@link StudentView}s. Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + STREAM_FETCH_SIZE))
+    @Query("""
+        select new com.example.studentmanagement.model.StudentView(
+            s.id, s.firstName, s.lastName, s.email, s.dateOfBirth, s.version)
+        from Student s order by s.id""")
+    Stream<StudentView> streamAll();
+
+    /**
+     * Which of the given ids exist, read from the primary key index without loading any rows.
+     */
+    @Query("select s.id from Student s where s.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    // Aggregates for reconciling the in-memory statistics; full scans, not for request paths.
+
+    @Query("""
+        select new com.example.studentmanagement.model.StudentBirthYearCount(year(s.dateOfBirth), count(s))
+        from Student s group by year(s.dateOfBirth)""")
+    List<StudentBirthYearCount> countByBirthYear();
+
+    @Query("""
+        select new com.example.studentmanagement.model.StudentEmailDomainCount(
+            lower(substring(s.email, locate('@', s.email) + 1)), count(s))
+        from Student s group by lower(substring(s.email, locate('@', s.email) + 1))""")
+    List<StudentEmailDomainCount> countByEmailDomain();
 }
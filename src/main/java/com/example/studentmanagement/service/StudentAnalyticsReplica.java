@@ -0,0 +1,337 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.repository.StudentRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.IntStream;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-process columnar copy of the two student columns the dashboards aggregate, so those queries
+ * never reach the database.
+ *
+ * <p>Each student is a row across parallel primitive arrays: the date of birth as an epoch day and
+ * the email domain as a code into a dictionary of distinct domains. Rows are kept dense, a delete
+ * moves the last row into the hole, so a scan is a plain loop over {@code int[]}s with no boxing
+ * and no branches on deleted rows. Large scans are split into chunks that run on the common
+ * fork-join pool, each filling its own histogram, and the histograms are summed afterwards.
+ *
+ * <p>Like {@link StudentSearchIndex}, the replica is filled from the repository before the web
+ * server starts and then follows committed {@link StudentChangedEvent}s; writes that bypass
+ * {@link StudentService} are only picked up by {@link #rebuild()}.
+ */
+@Component
+public class StudentAnalyticsReplica implements SmartInitializingSingleton {
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+    private static final int INITIAL_CAPACITY = 1_024;
+    private static final int PARALLEL_CHUNK_ROWS = 1 << 16;
+    private static final int MAX_AGE = 150;
+
+    private final StudentRepository studentRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] birthEpochDays = new int[INITIAL_CAPACITY];
+    private int[] domainCodes = new int[INITIAL_CAPACITY];
+    private int rows;
+    private final Map<Long, Integer> rowById = new HashMap<>();
+    private final Map<String, Integer> codeByDomain = new HashMap<>();
+    private final List<String> domains = new ArrayList<>();
+
+    public StudentAnalyticsReplica(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            rows = 0;
+            rowById.clear();
+            codeByDomain.clear();
+            domains.clear();
+
+            ScrollPosition position = ScrollPosition.keyset();
+            Window<Student> window;
+            do {
+                window = studentRepository.findBy(position, Sort.by("id"), Limit.of(REBUILD_BATCH_SIZE));
+                window.forEach(student -> upsert(student.getId(), student.getDateOfBirth(), student.getEmail()));
+                if (!window.isEmpty()) {
+                    position = window.positionAt(window.size() - 1);
+                }
+            } while (window.hasNext());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return rows;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Students per year of birth, in ascending year order; years without students are left out.
+     */
+    public List<YearCount> countByBirthYear() {
+        lock.readLock().lock();
+        try {
+            if (rows == 0) {
+                return List.of();
+            }
+            int minDay = Integer.MAX_VALUE;
+            int maxDay = Integer.MIN_VALUE;
+            for (int row = 0; row < rows; row++) {
+                minDay = Math.min(minDay, birthEpochDays[row]);
+                maxDay = Math.max(maxDay, birthEpochDays[row]);
+            }
+            int firstYear = yearOfEpochDay(minDay);
+            int years = yearOfEpochDay(maxDay) - firstYear + 1;
+            int[] yearStarts = new int[years + 1];
+            for (int i = 0; i <= years; i++) {
+                yearStarts[i] = (int) LocalDate.of(firstYear + i, 1, 1).toEpochDay();
+            }
+
+            long[] counts = scan(years, (from, to, histogram) -> {
+                for (int row = from; row < to; row++) {
+                    histogram[bucketOf(yearStarts, birthEpochDays[row])]++;
+                }
+            });
+
+            List<YearCount> result = new ArrayList<>();
+            for (int i = 0; i < years; i++) {
+                if (counts[i] > 0) {
+                    result.add(new YearCount(firstYear + i, counts[i]));
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Students per age band of {@code width} years, as of {@code today}, from the youngest band
+     * that has students to the oldest.
+     */
+    public List<AgeBand> ageDistribution(int width, LocalDate today) {
+        lock.readLock().lock();
+        try {
+            if (rows == 0) {
+                return List.of();
+            }
+            // Someone born on or before cutoffs[age] is at least that old; ages are bucketed by a
+            // binary search over these epoch days instead of per-row date arithmetic.
+            int[] cutoffs = new int[MAX_AGE + 2];
+            for (int age = 0; age < cutoffs.length; age++) {
+                cutoffs[cutoffs.length - 1 - age] = (int) today.minusYears(age).toEpochDay();
+            }
+            int bands = MAX_AGE / width + 1;
+
+            long[] counts = scan(bands, (from, to, histogram) -> {
+                for (int row = from; row < to; row++) {
+                    int age = ageOf(cutoffs, birthEpochDays[row]);
+                    histogram[Math.min(age, MAX_AGE) / width]++;
+                }
+            });
+
+            int first = 0;
+            while (counts[first] == 0) {
+                first++;
+            }
+            int last = bands - 1;
+            while (counts[last] == 0) {
+                last--;
+            }
+            List<AgeBand> result = new ArrayList<>(last - first + 1);
+            for (int band = first; band <= last; band++) {
+                result.add(new AgeBand(band * width, band * width + width - 1, counts[band]));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} most common email domains, most students first, ties in domain order.
+     */
+    public List<DomainCount> topEmailDomains(int limit) {
+        lock.readLock().lock();
+        try {
+            long[] counts = scan(domains.size(), (from, to, histogram) -> {
+                for (int row = from; row < to; row++) {
+                    histogram[domainCodes[row]]++;
+                }
+            });
+
+            return IntStream.range(0, counts.length)
+                .filter(code -> counts[code] > 0)
+                .mapToObj(code -> new DomainCount(domains.get(code), counts[code]))
+                .sorted((a, b) -> a.count() != b.count() ? Long.compare(b.count(), a.count()) : a.domain().compareTo(b.domain()))
+                .limit(limit)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED -> upsert(event.id(), event.dateOfBirth(), event.email());
+                case DELETED -> remove(event.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts or updates a row; a {@code null} column of an existing row keeps its value, as in a
+     * partial update. A new row without both columns is ignored.
+     */
+    private void upsert(Long id, LocalDate dateOfBirth, String email) {
+        Integer row = rowById.get(id);
+        if (row == null) {
+            if (dateOfBirth == null || email == null) {
+                return;
+            }
+            row = rows++;
+            ensureCapacity(rows);
+            ids[row] = id;
+            rowById.put(id, row);
+        }
+        if (dateOfBirth != null) {
+            birthEpochDays[row] = (int) dateOfBirth.toEpochDay();
+        }
+        if (email != null) {
+            domainCodes[row] = codeOf(domainOf(email));
+        }
+    }
+
+    private void remove(Long id) {
+        Integer row = rowById.remove(id);
+        if (row == null) {
+            return;
+        }
+        int last = --rows;
+        if (row != last) {
+            ids[row] = ids[last];
+            birthEpochDays[row] = birthEpochDays[last];
+            domainCodes[row] = domainCodes[last];
+            rowById.put(ids[row], row);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int grown = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, grown);
+            birthEpochDays = Arrays.copyOf(birthEpochDays, grown);
+            domainCodes = Arrays.copyOf(domainCodes, grown);
+        }
+    }
+
+    private int codeOf(String domain) {
+        return codeByDomain.computeIfAbsent(domain, key -> {
+            domains.add(key);
+            return domains.size() - 1;
+        });
+    }
+
+    /**
+     * Runs {@code kernel} over all rows into a histogram of {@code buckets} counters, in parallel
+     * chunks when there are enough rows. Callers hold the read lock for the whole scan.
+     */
+    private long[] scan(int buckets, ScanKernel kernel) {
+        int chunks = (rows + PARALLEL_CHUNK_ROWS - 1) / PARALLEL_CHUNK_ROWS;
+        if (chunks <= 1) {
+            long[] histogram = new long[buckets];
+            kernel.accumulate(0, rows, histogram);
+            return histogram;
+        }
+        int total = rows;
+        return IntStream.range(0, chunks)
+            .parallel()
+            .mapToObj(chunk -> {
+                long[] histogram = new long[buckets];
+                kernel.accumulate(chunk * PARALLEL_CHUNK_ROWS, Math.min(total, (chunk + 1) * PARALLEL_CHUNK_ROWS), histogram);
+                return histogram;
+            })
+            .reduce((left, right) -> {
+                for (int i = 0; i < left.length; i++) {
+                    left[i] += right[i];
+                }
+                return left;
+            })
+            .orElseThrow();
+    }
+
+    /**
+     * Index of the last start in {@code starts} that is {@code <= day}.
+     */
+    private static int bucketOf(int[] starts, int day) {
+        int index = Arrays.binarySearch(starts, day);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private static int ageOf(int[] cutoffs, int birthDay) {
+        int index = Arrays.binarySearch(cutoffs, birthDay);
+        int firstAtOrAfter = index >= 0 ? index : -index - 1;
+        return Math.max(0, cutoffs.length - 1 - firstAtOrAfter);
+    }
+
+    private static int yearOfEpochDay(int epochDay) {
+        return LocalDate.ofEpochDay(epochDay).getYear();
+    }
+
+    /**
+     * The lower-cased part after the first {@code @}, the same as
+     * {@link StudentRepository#countByEmailDomain()} computes in SQL.
+     */
+    static String domainOf(String email) {
+        int at = email.indexOf('@');
+        return email.substring(at + 1).toLowerCase(Locale.ROOT);
+    }
+
+    @FunctionalInterface
+    private interface ScanKernel {
+
+        void accumulate(int from, int to, long[] histogram);
+    }
+
+    public record YearCount(int year, long count) {
+    }
+
+    public record AgeBand(int fromAge, int toAge, long count) {
+    }
+
+    public record DomainCount(String domain, long count) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.repository.StudentRepository;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.Session;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Inserts students as JDBC batches, one transaction per batch.
+ *
+ * <p>When a batch violates a constraint the whole transaction is rolled back and the rows are
+ * retried one by one, so each row still gets its own outcome. The persistence context is cleared
+ * after every batch to keep memory flat on large imports. Without JPA (the {@code log-storage}
+ * profile) there is no persistence context and the batch goes straight to the repository.
+ */
+@Component
+public class StudentBatchWriter {
+
+    private final StudentRepository studentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+
+    public StudentBatchWriter(
+        StudentRepository studentRepository,
+        PlatformTransactionManager transactionManager,
+        ApplicationEventPublisher eventPublisher,
+        ObjectProvider<EntityManager> entityManager
+    ) {
+        this.studentRepository = studentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager.getIfAvailable();
+    }
+
+    public List<Outcome> insertAll(List<Student> students) {
+        if (students.isEmpty()) {
+            return List.of();
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (entityManager != null) {
+                    entityManager.unwrap(Session.class).setJdbcBatchSize(students.size());
+                }
+                studentRepository.saveAll(students);
+                studentRepository.flush();
+                clearPersistenceContext();
+                students.forEach(student -> eventPublisher.publishEvent(StudentChangedEvent.created(student)));
+            });
+            return students.stream().map(Outcome::inserted).toList();
+        } catch (DataIntegrityViolationException batchFailure) {
+            return insertOneByOne(students);
+        }
+    }
+
+    private List<Outcome> insertOneByOne(List<Student> students) {
+        List<Outcome> outcomes = new ArrayList<>(students.size());
+        for (Student student : students) {
+            resetIdentity(student);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    studentRepository.save(student);
+                    studentRepository.flush();
+                    clearPersistenceContext();
+                    eventPublisher.publishEvent(StudentChangedEvent.created(student));
+                });
+                outcomes.add(Outcome.inserted(student));
+            } catch (DataIntegrityViolationException ex) {
+                resetIdentity(student);
+                outcomes.add(Outcome.rejected(student, ex));
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Undoes what a rolled-back insert left on the entity. Without a version it is new again, so
+     * {@code save()} persists this instance instead of merging it into a copy.
+     */
+    private static void resetIdentity(Student student) {
+        student.setId(null);
+        student.setVersion(null);
+    }
+
+    private void clearPersistenceContext() {
+        if (entityManager != null) {
+            entityManager.clear();
+        }
+    }
+
+    public record Outcome(Student student, DataIntegrityViolationException failure) {
+
+        static Outcome inserted(Student student) {
+            return new Outcome(student, null);
+        }
+
+        static Outcome rejected(Student student, DataIntegrityViolationException failure) {
+            return new Outcome(student, failure);
+        }
+
+        public boolean succeeded() {
+            return failure == null;
+        }
+    }
+}
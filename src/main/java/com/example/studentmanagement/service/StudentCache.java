@@ -0,0 +1,168 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.config.StudentCacheProperties;
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.repository.StudentRepository;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps the {@value #NAME} cache behind {@link StudentService#getStudentById(Long)} consistent and warm.
+ *
+ * <p>Entries are evicted once a write commits rather than when the service method returns, and
+ * just before evicting, a write generation for the id is advanced. A loaded row is only stored if
+ * that generation did not move while it was loaded, and is evicted again if it moved while storing
+ * it, so a miss that read the pre-commit row cannot leave it in the cache after the eviction.
+ * Generations are kept in a fixed number of stripes; a write to one id may stop a concurrent load
+ * of another id from being cached, which only costs a miss.
+ *
+ * <p>Hit, miss and eviction counters are published by Actuator as {@code cache.gets} and
+ * {@code cache.evictions}.
+ */
+@Component
+public class StudentCache {
+
+    public static final String NAME = "students";
+
+    private static final Logger log = LoggerFactory.getLogger(StudentCache.class);
+    private static final int WARM_UP_BATCH_SIZE = 500;
+    private static final int GENERATION_STRIPES = 4096;
+
+    private final CacheManager cacheManager;
+    private final StudentRepository studentRepository;
+    private final StudentCacheProperties.WarmUp warmUp;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public StudentCache(
+        CacheManager cacheManager,
+        StudentRepository studentRepository,
+        StudentCacheProperties properties
+    ) {
+        this.cacheManager = cacheManager;
+        this.studentRepository = studentRepository;
+        this.warmUp = properties.warmUp();
+    }
+
+    /**
+     * Returns the cached student, or loads it with {@code loader} and caches it unless a write to
+     * the same id committed in the meantime. The loader is given the write generation observed
+     * before loading, so that it can avoid sharing a query started under an older one.
+     */
+    public Student get(Long id, LongFunction<Student> loader) {
+        Cache cache = cache();
+        Student cached = cache.get(id, Student.class);
+        if (cached != null) {
+            return cached;
+        }
+
+        long observed = generation(id);
+        Student loaded = loader.apply(observed);
+        put(cache, id, loaded, observed);
+        return loaded;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        generations.incrementAndGet(stripe(event.id()));
+        cache().evict(event.id());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Path file = warmUp.file();
+        if (!warmUp.enabled() || file == null || !Files.isReadable(file)) {
+            return;
+        }
+
+        List<Long> ids;
+        try (var lines = Files.lines(file)) {
+            ids = lines.map(String::trim)
+                .filter(line -> !line.isEmpty())
+                .map(Long::valueOf)
+                .limit(warmUp.size())
+                .toList();
+        } catch (IOException | NumberFormatException ex) {
+            log.warn("Skipping cache warm-up, could not read {}", file, ex);
+            return;
+        }
+
+        Cache cache = cache();
+        for (int from = 0; from < ids.size(); from += WARM_UP_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + WARM_UP_BATCH_SIZE, ids.size()));
+            Map<Long, Long> observed = new HashMap<>();
+            batch.forEach(id -> observed.put(id, generation(id)));
+            for (Student student : studentRepository.findAllById(batch)) {
+                put(cache, student.getId(), student, observed.get(student.getId()));
+            }
+        }
+        log.info("Warmed up '{}' cache with {} ids from {}", NAME, ids.size(), file);
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void saveHottestIds() {
+        Path file = warmUp.file();
+        if (!warmUp.enabled() || file == null || !(cache() instanceof CaffeineCache caffeineCache)) {
+            return;
+        }
+
+        Map<Object, Object> hottest = caffeineCache.getNativeCache().policy().eviction()
+            .map(eviction -> eviction.hottest(warmUp.size()))
+            .orElse(Map.of());
+        List<String> lines = new ArrayList<>(hottest.size());
+        hottest.keySet().forEach(id -> lines.add(String.valueOf(id)));
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(file, lines);
+        } catch (IOException ex) {
+            log.warn("Could not save hottest cache ids to {}", file, ex);
+        }
+    }
+
+    private void put(Cache cache, Long id, Student student, long observed) {
+        if (generation(id) != observed) {
+            return;
+        }
+        cache.put(id, student);
+        if (generation(id) != observed) {
+            // A write committed while storing; its eviction may already have run.
+            cache.evict(id);
+        }
+    }
+
+    private long generation(Long id) {
+        return generations.get(stripe(id));
+    }
+
+    private static int stripe(Long id) {
+        return Long.hashCode(id) & (GENERATION_STRIPES - 1);
+    }
+
+    private Cache cache() {
+        Cache cache = cacheManager.getCache(NAME);
+        if (cache == null) {
+            throw new IllegalStateException("Cache '" + NAME + "' is not configured");
+        }
+        return cache;
+    }
+}
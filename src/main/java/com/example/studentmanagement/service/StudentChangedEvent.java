@@ -0,0 +1,62 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentPatch;
+import java.time.LocalDate;
+
+/**
+ * Published for every student write that goes through the service layer. Listeners that keep
+ * derived state should use {@code @TransactionalEventListener} so they only see committed changes.
+ *
+ * <p>An {@code UPDATED} event from a partial update carries only the fields that changed; the
+ * others are {@code null} and keep their previous value.
+ */
+public record StudentChangedEvent(
+    Type type,
+    Long id,
+    String firstName,
+    String lastName,
+    String email,
+    LocalDate dateOfBirth
+) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static StudentChangedEvent created(Student student) {
+        return of(Type.CREATED, student);
+    }
+
+    public static StudentChangedEvent updated(Student student) {
+        return of(Type.UPDATED, student);
+    }
+
+    public static StudentChangedEvent patched(Long id, StudentPatch patch) {
+        return new StudentChangedEvent(
+            Type.UPDATED,
+            id,
+            patch.firstName(),
+            patch.lastName(),
+            patch.email(),
+            patch.dateOfBirth()
+        );
+    }
+
+    public static StudentChangedEvent deleted(Long id) {
+        return new StudentChangedEvent(Type.DELETED, id, null, null, null, null);
+    }
+
+    private static StudentChangedEvent of(Type type, Student student) {
+        return new StudentChangedEvent(
+            type,
+            student.getId(),
+            student.getFirstName(),
+            student.getLastName(),
+            student.getEmail(),
+            student.getDateOfBirth()
+        );
+    }
+}
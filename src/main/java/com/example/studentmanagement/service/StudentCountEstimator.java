@@ -0,0 +1,55 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.repository.StudentRepository;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Serves the student total without a {@code COUNT(*)} per request.
+ *
+ * <p>The value is recounted in the background and adjusted after every committed create or delete,
+ * so it can drift briefly (for example when a delete targets a row that was already gone) until
+ * the next refresh.
+ */
+@Component
+public class StudentCountEstimator {
+
+    private static final long UNKNOWN = -1;
+
+    private final StudentRepository studentRepository;
+    private final AtomicLong estimate = new AtomicLong(UNKNOWN);
+
+    public StudentCountEstimator(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    public long estimate() {
+        long current = estimate.get();
+        if (current == UNKNOWN) {
+            refresh();
+            current = estimate.get();
+        }
+        return current;
+    }
+
+    @Scheduled(
+        initialDelayString = "${app.students.count.refresh-interval:PT30S}",
+        fixedDelayString = "${app.students.count.refresh-interval:PT30S}"
+    )
+    public void refresh() {
+        estimate.set(studentRepository.count());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        switch (event.type()) {
+            case CREATED -> estimate.updateAndGet(value -> value == UNKNOWN ? UNKNOWN : value + 1);
+            case DELETED -> estimate.updateAndGet(value -> value <= 0 ? value : value - 1);
+            case UPDATED -> {
+                // Updates do not change the total.
+            }
+        }
+    }
+}
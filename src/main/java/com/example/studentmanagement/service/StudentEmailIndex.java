@@ -0,0 +1,113 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.exception.DuplicateStudentEmailException;
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.repository.StudentRepository;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-memory copy of the {@code uk_students_email} constraint, so a duplicate email is rejected
+ * before an INSERT or UPDATE is attempted.
+ *
+ * <p>Emails are compared exactly as the database compares them (trimmed, case-sensitive). The
+ * index is loaded before the web server starts and then follows committed
+ * {@link StudentChangedEvent}s, so it can briefly miss a concurrent write; the database
+ * constraint remains the final safeguard. Writes that bypass {@link StudentService} are only
+ * picked up by {@link #rebuild()}.
+ */
+@Component
+public class StudentEmailIndex implements SmartInitializingSingleton {
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final StudentRepository studentRepository;
+    private final Map<String, Long> idsByEmail = new ConcurrentHashMap<>();
+    private final Map<Long, String> emailsById = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    public StudentEmailIndex(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        synchronized (writeLock) {
+            idsByEmail.clear();
+            emailsById.clear();
+
+            ScrollPosition position = ScrollPosition.keyset();
+            Window<Student> window;
+            do {
+                window = studentRepository.findBy(position, Sort.by("id"), Limit.of(REBUILD_BATCH_SIZE));
+                window.forEach(student -> put(student.getId(), student.getEmail()));
+                if (!window.isEmpty()) {
+                    position = window.positionAt(window.size() - 1);
+                }
+            } while (window.hasNext());
+        }
+    }
+
+    /**
+     * @param ownerId the student allowed to hold {@code email} (the one being updated), or
+     *     {@code null} for a new student
+     */
+    public boolean isTaken(String email, Long ownerId) {
+        Long holder = idsByEmail.get(email);
+        return holder != null && !holder.equals(ownerId);
+    }
+
+    /**
+     * @throws DuplicateStudentEmailException if another student already holds {@code email}
+     */
+    public void checkAvailable(String email, Long ownerId) {
+        if (isTaken(email, ownerId)) {
+            throw new DuplicateStudentEmailException(email);
+        }
+    }
+
+    public int size() {
+        return idsByEmail.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        synchronized (writeLock) {
+            switch (event.type()) {
+                case CREATED, UPDATED -> {
+                    if (event.email() != null) {
+                        put(event.id(), event.email());
+                    }
+                }
+                case DELETED -> remove(event.id());
+            }
+        }
+    }
+
+    private void put(Long id, String email) {
+        String previous = emailsById.put(id, email);
+        if (previous != null && !Objects.equals(previous, email)) {
+            idsByEmail.remove(previous, id);
+        }
+        idsByEmail.put(email, id);
+    }
+
+    private void remove(Long id) {
+        String previous = emailsById.remove(id);
+        if (previous != null) {
+            idsByEmail.remove(previous, id);
+        }
+    }
+}
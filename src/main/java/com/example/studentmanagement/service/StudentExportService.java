@@ -0,0 +1,136 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.model.StudentView;
+import com.example.studentmanagement.repository.StudentRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.annotation.Timed;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Writes every student to an output stream as NDJSON, CSV or a binary value sequence in constant memory.
+ *
+ * <p>Rows come from a forward-only database cursor as {@link StudentView} projections, so neither
+ * the result set nor the persistence context grows with the table. The CSV columns match
+ * what {@link StudentImportService} reads, so an export can be imported again.
+ */
+@Timed(value = "student.service", histogram = true)
+@Service
+public class StudentExportService {
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.builder()
+        .addColumn("id")
+        .addColumn("firstName")
+        .addColumn("lastName")
+        .addColumn("email")
+        .addColumn("dateOfBirth")
+        .build()
+        .withHeader();
+
+    private final StudentRepository studentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    public StudentExportService(
+        StudentRepository studentRepository,
+        PlatformTransactionManager transactionManager,
+        ObjectMapper objectMapper
+    ) {
+        this.studentRepository = studentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the number of rows written
+     * @throws IOException if the output fails, typically because the client disconnected; the
+     *     database cursor is closed before this is thrown
+     */
+    public long exportNdjson(OutputStream out) throws IOException {
+        ObjectWriter ndjson = objectMapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .withRootValueSeparator("\n");
+        try (SequenceWriter writer = ndjson.writeValues(out)) {
+            long written = export(writer::write);
+            writer.flush();
+            if (written > 0) {
+                out.write('\n');
+            }
+            return written;
+        }
+    }
+
+    /**
+     * Writes one root value per student in the format of {@code mapper}, without separators: a CBOR
+     * sequence (RFC 8742) for a CBOR mapper, a single Smile stream for a Smile mapper.
+     *
+     * @return the number of rows written
+     * @throws IOException if the output fails, typically because the client disconnected; the
+     *     database cursor is closed before this is thrown
+     */
+    public long exportSequence(OutputStream out, ObjectMapper mapper) throws IOException {
+        try (SequenceWriter writer = mapper.writer()
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .writeValues(out)) {
+            return export(writer::write);
+        }
+    }
+
+    /**
+     * @return the number of rows written
+     * @throws IOException if the output fails, typically because the client disconnected; the
+     *     database cursor is closed before this is thrown
+     */
+    public long exportCsv(OutputStream out) throws IOException {
+        try (SequenceWriter writer = csvMapper.writer(CSV_SCHEMA)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .writeValues(out)) {
+            return export(student -> writer.write(new Object[] {
+                student.id(),
+                student.firstName(),
+                student.lastName(),
+                student.email(),
+                student.dateOfBirth().toString()
+            }));
+        }
+    }
+
+    private long export(RowWriter rowWriter) throws IOException {
+        try {
+            Long written = transactionTemplate.execute(status -> {
+                long count = 0;
+                try (Stream<StudentView> students = studentRepository.streamAll()) {
+                    Iterator<StudentView> iterator = students.iterator();
+                    while (iterator.hasNext()) {
+                        rowWriter.write(iterator.next());
+                        count++;
+                    }
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                return count;
+            });
+            return written == null ? 0 : written;
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(StudentView student) throws IOException;
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.config.StudentGroupCommitProperties;
+import com.example.studentmanagement.model.Student;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Group commit for {@link StudentService#createStudent(Student)}: concurrent creates are queued and
+ * written together by one flusher thread, in one transaction and one JDBC batch, so they share a
+ * single commit instead of paying for one each.
+ *
+ * <p>A batch is flushed when {@code max-batch-size} creates are waiting or {@code max-delay} after
+ * its first create arrived, whichever comes first. Callers block until their batch has committed
+ * and then get their own student with its generated id. Validation and the email check run on the
+ * caller's thread before queueing; a constraint violation in the database makes
+ * {@link StudentBatchWriter} retry the batch row by row, so only the offending caller gets the
+ * error.
+ *
+ * <p>Only active with {@code app.students.group-commit.enabled=true}. Batch sizes are recorded as
+ * {@code student.group-commit.batch.size}.
+ */
+@Component
+public class StudentGroupCommitter implements InitializingBean, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentGroupCommitter.class);
+    private static final long IDLE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final StudentBatchWriter batchWriter;
+    private final StudentGroupCommitProperties properties;
+    private final DistributionSummary batchSizes;
+    private final BlockingQueue<PendingCreate> queue;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    @Autowired
+    public StudentGroupCommitter(
+        StudentBatchWriter batchWriter,
+        StudentGroupCommitProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this(batchWriter, properties, meterRegistry, new LinkedBlockingQueue<>());
+    }
+
+    StudentGroupCommitter(
+        StudentBatchWriter batchWriter,
+        StudentGroupCommitProperties properties,
+        MeterRegistry meterRegistry,
+        BlockingQueue<PendingCreate> queue
+    ) {
+        this.batchWriter = batchWriter;
+        this.properties = properties;
+        this.queue = queue;
+        this.batchSizes = DistributionSummary.builder("student.group-commit.batch.size")
+            .description("Student creates written per group commit")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.enabled();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (properties.enabled()) {
+            running = true;
+            flusher = Thread.ofPlatform().name("student-group-commit").daemon().start(this::flushLoop);
+        }
+    }
+
+    /**
+     * Queues a validated student and waits until its batch has been written.
+     *
+     * @return the inserted student, with its generated id
+     * @throws org.springframework.dao.DataIntegrityViolationException if this student violates a
+     *     database constraint
+     */
+    public Student create(Student student) {
+        if (!running) {
+            throw new IllegalStateException("Group commit is not running");
+        }
+        PendingCreate pending = new PendingCreate(student, new CompletableFuture<>());
+        queue.add(pending);
+        if (!running && queue.remove(pending)) {
+            // destroy() may have drained the queue between the check above and the add; nobody
+            // else would complete this entry. If it is gone already, the flusher or the drain has it.
+            throw new IllegalStateException("Group commit is not running");
+        }
+        try {
+            return pending.result().join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(10));
+        PendingCreate abandoned;
+        while ((abandoned = queue.poll()) != null) {
+            abandoned.result().completeExceptionally(new IllegalStateException("Group commit has been shut down"));
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingCreate> batch = new ArrayList<>(properties.maxBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException ex) {
+                // Treated as a shutdown request; what is already queued is still written.
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Waits for the first create, then adds more until the batch is full or {@code max-delay} has
+     * passed since the first one was taken. Returns with an empty batch now and then while idle so
+     * that the loop notices a shutdown.
+     */
+    private void collect(List<PendingCreate> batch) throws InterruptedException {
+        PendingCreate first = queue.poll(IDLE_POLL_NANOS, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + properties.maxDelay().toNanos();
+        while (batch.size() < properties.maxBatchSize()) {
+            queue.drainTo(batch, properties.maxBatchSize() - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= properties.maxBatchSize() || remaining <= 0) {
+                return;
+            }
+            PendingCreate next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<PendingCreate> batch) {
+        batchSizes.record(batch.size());
+        try {
+            List<StudentBatchWriter.Outcome> outcomes = batchWriter.insertAll(batch.stream().map(PendingCreate::student).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                StudentBatchWriter.Outcome outcome = outcomes.get(i);
+                if (outcome.succeeded()) {
+                    batch.get(i).result().complete(outcome.student());
+                } else {
+                    batch.get(i).result().completeExceptionally(outcome.failure());
+                }
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Group commit of {} students failed", batch.size(), ex);
+            batch.forEach(pending -> pending.result().completeExceptionally(ex));
+        }
+    }
+
+    record PendingCreate(Student student, CompletableFuture<Student> result) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.studentmanagement.service;
+
+import java.util.List;
+
+public record StudentImportResult(
+    long received,
+    long imported,
+    long failed,
+    boolean aborted,
+    boolean errorsTruncated,
+    List<RowError> errors
+) {
+
+    public StudentImportResult {
+        errors = errors == null ? List.of() : List.copyOf(errors);
+    }
+
+    /**
+     * A rejected row. Business-rule failures carry a {@code messageKey} to be resolved against
+     * {@code messages*.properties}; Bean Validation failures carry an already interpolated
+     * {@code message}.
+     */
+    public record RowError(
+        long row,
+        String field,
+        Object rejectedValue,
+        String messageKey,
+        Object[] messageArgs,
+        String message
+    ) {
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.config.StudentImportProperties;
+import com.example.studentmanagement.exception.InvalidStudentDataException;
+import com.example.studentmanagement.model.Student;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * Streams CSV or NDJSON rows into the database without materialising the whole upload.
+ *
+ * <p>Rows are validated with the same rules as {@link StudentService#createStudent(Student)} and
+ * persisted through {@link StudentBatchWriter}. Every batch commits on its own, so rows imported
+ * before a failing row stay imported.
+ */
+@Timed(value = "student.service", histogram = true)
+@Service
+public class StudentImportService {
+
+    private static final CsvSchema CSV_SCHEMA = CsvSchema.emptySchema().withHeader();
+
+    private final StudentBatchWriter batchWriter;
+    private final StudentEmailIndex emailIndex;
+    private final Validator validator;
+    private final StudentImportProperties properties;
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    public StudentImportService(
+        StudentBatchWriter batchWriter,
+        StudentEmailIndex emailIndex,
+        Validator validator,
+        StudentImportProperties properties,
+        ObjectMapper objectMapper
+    ) {
+        this.batchWriter = batchWriter;
+        this.emailIndex = emailIndex;
+        this.validator = validator;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    public StudentImportResult importCsv(Reader body) {
+        ImportRun run = new ImportRun();
+        try (MappingIterator<Map<String, String>> rows = csvMapper
+            .readerForMapOf(String.class)
+            .with(CSV_SCHEMA)
+            .readValues(body)) {
+            while (rows.hasNextValue()) {
+                Map<String, String> row = rows.nextValue();
+                run.accept(row.get("firstName"), row.get("lastName"), row.get("email"), row.get("dateOfBirth"));
+            }
+        } catch (IOException ex) {
+            run.abort();
+        }
+        return run.finish();
+    }
+
+    public StudentImportResult importNdjson(Reader body) {
+        ImportRun run = new ImportRun();
+        try (BufferedReader lines = new BufferedReader(body)) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode row;
+                try {
+                    row = objectMapper.readTree(line);
+                } catch (JsonProcessingException ex) {
+                    run.rejectMalformed();
+                    continue;
+                }
+                run.accept(text(row, "firstName"), text(row, "lastName"), text(row, "email"), text(row, "dateOfBirth"));
+            }
+        } catch (IOException ex) {
+            run.abort();
+        }
+        return run.finish();
+    }
+
+    private static String text(JsonNode row, String field) {
+        JsonNode value = row.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    private final class ImportRun {
+
+        private final int batchSize = properties.batchSize();
+        private final List<Student> pending = new ArrayList<>(batchSize);
+        private final List<Long> pendingRows = new ArrayList<>(batchSize);
+        private final Set<String> pendingEmails = new HashSet<>();
+        private final List<StudentImportResult.RowError> errors = new ArrayList<>();
+        private long rowNumber;
+        private long imported;
+        private long failed;
+        private boolean aborted;
+
+        void accept(String firstName, String lastName, String email, String dateOfBirth) {
+            rowNumber++;
+            Student student;
+            try {
+                student = new Student(firstName, lastName, email, parseDate(dateOfBirth));
+                StudentValidation.validate(student);
+                StudentValidation.prepareForInsert(student);
+            } catch (InvalidStudentDataException ex) {
+                recordError(rowNumber, ex.getField(), ex.getRejectedValue(), ex.getMessageKey(), ex.getMessageArgs(), null);
+                return;
+            }
+
+            ConstraintViolation<Student> violation = firstViolation(student);
+            if (violation != null) {
+                recordError(
+                    rowNumber,
+                    violation.getPropertyPath().toString(),
+                    violation.getInvalidValue(),
+                    null,
+                    null,
+                    violation.getMessage()
+                );
+                return;
+            }
+
+            // Known duplicates are rejected here so they do not roll back a whole batch.
+            if (emailIndex.isTaken(student.getEmail(), null) || !pendingEmails.add(student.getEmail())) {
+                recordError(rowNumber, "email", student.getEmail(), "error.student.email.duplicate", null, null);
+                return;
+            }
+
+            pending.add(student);
+            pendingRows.add(rowNumber);
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void rejectMalformed() {
+            rowNumber++;
+            recordError(rowNumber, null, null, "error.import.malformed-row", null, null);
+        }
+
+        void abort() {
+            aborted = true;
+            recordError(rowNumber + 1, null, null, "error.import.malformed-row", null, null);
+        }
+
+        StudentImportResult finish() {
+            flush();
+            // Rows rejected up front and rows rejected by the database are reported in input order.
+            errors.sort(Comparator.comparingLong(StudentImportResult.RowError::row));
+            return new StudentImportResult(rowNumber, imported, failed, aborted, failed > errors.size(), errors);
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<StudentBatchWriter.Outcome> outcomes = batchWriter.insertAll(pending);
+            for (int i = 0; i < outcomes.size(); i++) {
+                StudentBatchWriter.Outcome outcome = outcomes.get(i);
+                if (outcome.succeeded()) {
+                    imported++;
+                } else {
+                    recordConstraintFailure(pendingRows.get(i), outcome.student(), outcome.failure());
+                }
+            }
+            pending.clear();
+            pendingRows.clear();
+            pendingEmails.clear();
+        }
+
+        private LocalDate parseDate(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return LocalDate.parse(value.trim());
+            } catch (DateTimeParseException ex) {
+                throw new InvalidStudentDataException("dateOfBirth", value, "error.student.date-of-birth.invalid");
+            }
+        }
+
+        private ConstraintViolation<Student> firstViolation(Student student) {
+            return validator.validate(student).stream()
+                .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .orElse(null);
+        }
+
+        private void recordConstraintFailure(long row, Student student, DataIntegrityViolationException failure) {
+            String cause = String.valueOf(failure.getMostSpecificCause().getMessage());
+            if (cause.toLowerCase().contains("uk_students_email")) {
+                recordError(row, "email", student.getEmail(), "error.student.email.duplicate", null, null);
+            } else {
+                recordError(row, null, null, "error.import.constraint-violation", null, null);
+            }
+        }
+
+        private void recordError(
+            long row,
+            String field,
+            Object rejectedValue,
+            String messageKey,
+            Object[] messageArgs,
+            String message
+        ) {
+            failed++;
+            if (errors.size() < properties.maxReportedErrors()) {
+                errors.add(new StudentImportResult.RowError(row, field, rejectedValue, messageKey, messageArgs, message));
+            }
+        }
+    }
+}
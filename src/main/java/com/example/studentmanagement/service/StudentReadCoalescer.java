@@ -0,0 +1,123 @@
+package com.example.studentmanagement.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Single-flight execution of identical concurrent reads: the first caller for a key runs the
+ * query, and every caller that arrives while it is in flight waits for that result, or that
+ * exception, instead of running its own. Nothing is kept after the query returns, so this is not a
+ * cache. A caller only ever sees a result whose query started after it arrived or shortly before.
+ *
+ * <p>Reads are also keyed by a write generation observed by the caller: by-id reads by the id's
+ * generation in {@link StudentCache}, page and slice reads by the collection generation of the
+ * response cache. A caller that arrives after a write has committed sees a newer generation and
+ * runs its own query instead of joining one that may have read the rows before the commit; neither
+ * cache stores what such an older query returns.
+ *
+ * <p>Callers inside a transaction always run their own query, because they must see their own
+ * uncommitted writes and may modify the entities they get back.
+ *
+ * <p>Calls are counted as {@code student.reads}, tagged with {@code operation} and with
+ * {@code result} set to {@code executed} or {@code coalesced}.
+ */
+@Component
+public class StudentReadCoalescer {
+
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public StudentReadCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param generation the write generation of {@code id} observed before this read
+     */
+    public <T> T byId(Long id, long generation, Supplier<T> query) {
+        return execute(new Key("by-id", new IdKey(id, generation)), query);
+    }
+
+    /**
+     * @param generation the collection write generation observed before this read
+     */
+    public <T> T page(int page, int size, Sort sort, long generation, Supplier<T> query) {
+        return execute(new Key("page", new PageKey(page, size, sort, generation)), query);
+    }
+
+    /**
+     * @param generation the collection write generation observed before this read
+     */
+    public <T> T slice(int page, int size, Sort sort, long generation, Supplier<T> query) {
+        return execute(new Key("slice", new PageKey(page, size, sort, generation)), query);
+    }
+
+    int inFlight() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T execute(Key key, Supplier<T> query) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return query.get();
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            counter(key, "coalesced").increment();
+            return (T) await(leader);
+        }
+
+        counter(key, "executed").increment();
+        try {
+            T result = query.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private Counter counter(Key key, String result) {
+        return Counter.builder("student.reads")
+            .description("Student reads by whether they ran a query or joined one already in flight")
+            .tag("operation", key.operation())
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private record Key(String operation, Object value) {
+    }
+
+    private record IdKey(Long id, long generation) {
+    }
+
+    private record PageKey(int page, int size, Sort sort, long generation) {
+    }
+}
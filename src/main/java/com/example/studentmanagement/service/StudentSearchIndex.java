@@ -0,0 +1,270 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.repository.StudentRepository;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * In-process prefix index over first name, last name and email, used for autocomplete.
+ *
+ * <p>Terms are lower-cased and stripped of diacritics ({@code "Nguyễn"} is indexed as
+ * {@code "nguyen"}) and kept in a sorted map, so a prefix lookup is a {@code subMap} range scan
+ * that starts in O(log n) and stops after {@code limit} hits. Results are ranked by the matched
+ * term: an exact term match sorts before its completions, completions sort alphabetically, and
+ * ties are broken by id. Multi-word queries treat every word as a prefix: the word with the fewest
+ * postings drives the scan and decides the ranking, and each of its candidates is checked against
+ * the other words. The scan is not capped, so a query whose words are all common but rarely occur
+ * together reads every posting of its rarest word.
+ *
+ * <p>The index is filled from the repository before the web server starts and then follows
+ * committed {@link StudentChangedEvent}s. Writes that bypass {@link StudentService} are only
+ * picked up by {@link #rebuild()}.
+ */
+@Component
+public class StudentSearchIndex implements SmartInitializingSingleton {
+
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final StudentRepository studentRepository;
+    private final ConcurrentSkipListMap<String, Postings> postings = new ConcurrentSkipListMap<>();
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    public StudentSearchIndex(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        synchronized (writeLock) {
+            postings.clear();
+            documents.clear();
+
+            ScrollPosition position = ScrollPosition.keyset();
+            Window<Student> window;
+            do {
+                window = studentRepository.findBy(position, Sort.by("id"), Limit.of(REBUILD_BATCH_SIZE));
+                window.forEach(student -> put(Document.of(student)));
+                if (!window.isEmpty()) {
+                    position = window.positionAt(window.size() - 1);
+                }
+            } while (window.hasNext());
+        }
+    }
+
+    public List<Document> search(String query, int limit) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty() || limit < 1) {
+            return List.of();
+        }
+
+        String driver = driver(tokens);
+        Map<Long, Document> hits = new LinkedHashMap<>();
+
+        scan:
+        for (Postings term : range(driver).values()) {
+            for (Long id : term.ids()) {
+                if (hits.containsKey(id)) {
+                    continue;
+                }
+                Document document = documents.get(id);
+                if (document != null && document.matchesAll(tokens)) {
+                    hits.put(id, document);
+                    if (hits.size() == limit) {
+                        break scan;
+                    }
+                }
+            }
+        }
+        return List.copyOf(hits.values());
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * The token with the fewest postings under its prefix. Longer tokens are counted first since
+     * they tend to be rarer, and counting a token stops as soon as it is not the rarest so far.
+     */
+    private String driver(List<String> tokens) {
+        String driver = null;
+        long fewest = Long.MAX_VALUE;
+        for (String token : tokens.stream().sorted(Comparator.comparingInt(String::length).reversed()).toList()) {
+            long count = 0;
+            for (Postings term : range(token).values()) {
+                count += term.size();
+                if (count >= fewest) {
+                    break;
+                }
+            }
+            if (count < fewest) {
+                driver = token;
+                fewest = count;
+            }
+        }
+        return driver;
+    }
+
+    private NavigableMap<String, Postings> range(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        synchronized (writeLock) {
+            switch (event.type()) {
+                case CREATED, UPDATED -> {
+                    Document previous = documents.get(event.id());
+                    String firstName = merge(event.firstName(), previous, Document::firstName);
+                    String lastName = merge(event.lastName(), previous, Document::lastName);
+                    String email = merge(event.email(), previous, Document::email);
+                    put(new Document(event.id(), firstName, lastName, email, termsOf(firstName, lastName, email)));
+                }
+                case DELETED -> remove(event.id());
+            }
+        }
+    }
+
+    private static String merge(String changed, Document previous, Function<Document, String> field) {
+        return changed != null || previous == null ? changed : field.apply(previous);
+    }
+
+    private void put(Document document) {
+        remove(document.id());
+        documents.put(document.id(), document);
+        for (String term : document.terms()) {
+            postings.computeIfAbsent(term, key -> new Postings()).add(document.id());
+        }
+    }
+
+    private void remove(Long id) {
+        Document previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms()) {
+            Postings ids = postings.get(term);
+            if (ids != null && ids.remove(id) == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null) {
+            return List.of();
+        }
+        return Arrays.stream(WHITESPACE.split(normalize(text)))
+            .filter(token -> !token.isEmpty())
+            .distinct()
+            .toList();
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("")
+            .replace('đ', 'd')
+            .replace('Đ', 'D')
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private static String[] termsOf(String firstName, String lastName, String email) {
+        List<String> terms = new ArrayList<>(tokenize(firstName));
+        terms.addAll(tokenize(lastName));
+        if (email != null) {
+            terms.add(normalize(email));
+        }
+        return terms.stream().distinct().toArray(String[]::new);
+    }
+
+    /**
+     * The ids under one term, with their count: the size of a {@link ConcurrentSkipListSet} takes a
+     * full traversal. Only modified under the write lock.
+     */
+    private static final class Postings {
+
+        private final NavigableSet<Long> ids = new ConcurrentSkipListSet<>();
+        private volatile int size;
+
+        NavigableSet<Long> ids() {
+            return ids;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void add(Long id) {
+            if (ids.add(id)) {
+                size = size + 1;
+            }
+        }
+
+        /**
+         * @return the number of ids left
+         */
+        int remove(Long id) {
+            if (ids.remove(id)) {
+                size = size - 1;
+            }
+            return size;
+        }
+    }
+
+    public record Document(Long id, String firstName, String lastName, String email, String[] terms) {
+
+        static Document of(Student student) {
+            return new Document(
+                student.getId(),
+                student.getFirstName(),
+                student.getLastName(),
+                student.getEmail(),
+                termsOf(student.getFirstName(), student.getLastName(), student.getEmail())
+            );
+        }
+
+        boolean matchesAll(List<String> tokens) {
+            for (String token : tokens) {
+                boolean matched = false;
+                for (String term : terms) {
+                    if (term.startsWith(token)) {
+                        matched = true;
+                        break;
+                    }
+                }
+                if (!matched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
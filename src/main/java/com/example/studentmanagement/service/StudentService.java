@@ -1,98 +1,223 @@
 package com.example.studentmanagement.service;
 
-import com.example.studentmanagement.exception.InvalidStudentDataException;
 import com.example.studentmanagement.exception.ResourceNotFoundException;
 import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentPatch;
+import com.example.studentmanagement.model.StudentView;
 import com.example.studentmanagement.repository.StudentRepository;
+import io.micrometer.core.annotation.Timed;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
-import org.springframework.util.StringUtils;
+import org.springframework.transaction.annotation.Transactional;
 
+@Timed(value = "student.service", histogram = true)
 @Service("studentPersistenceService")
 public class StudentService {
 
-    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
-
     private final StudentRepository studentRepository;
-
-    public StudentService(StudentRepository studentRepository) {
+    private final StudentCountEstimator countEstimator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StudentEmailIndex emailIndex;
+    private final StudentReadCoalescer readCoalescer;
+    private final StudentGroupCommitter groupCommitter;
+    private final StudentCache studentCache;
+
+    public StudentService(
+        StudentRepository studentRepository,
+        StudentCountEstimator countEstimator,
+        ApplicationEventPublisher eventPublisher,
+        StudentEmailIndex emailIndex,
+        StudentReadCoalescer readCoalescer,
+        StudentGroupCommitter groupCommitter,
+        StudentCache studentCache
+    ) {
         this.studentRepository = studentRepository;
+        this.countEstimator = countEstimator;
+        this.eventPublisher = eventPublisher;
+        this.emailIndex = emailIndex;
+        this.readCoalescer = readCoalescer;
+        this.groupCommitter = groupCommitter;
+        this.studentCache = studentCache;
     }
 
+    @Transactional(readOnly = true)
     public List<Student> getAllStudents() {
         return studentRepository.findAll();
     }
 
-    public Page<Student> getStudents(Pageable pageable) {
-        return studentRepository.findAll(pageable);
+    /**
+     * The list queries below return {@link StudentView} projections rather than entities, so a page
+     * of results leaves nothing in the persistence context to snapshot or flush. Identical concurrent
+     * requests that observed the same write {@code generation} share one query, see
+     * {@link StudentReadCoalescer}.
+     */
+    public Page<StudentView> getStudents(Pageable pageable, long generation) {
+        if (pageable.isUnpaged()) {
+            return studentRepository.findViewPageBy(pageable);
+        }
+        return readCoalescer.page(
+            pageable.getPageNumber(),
+            pageable.getPageSize(),
+            pageable.getSort(),
+            generation,
+            () -> studentRepository.findViewPageBy(pageable)
+        );
+    }
+
+    /**
+     * Like {@link #getStudents(Pageable, long)} but without the {@code COUNT(*)}: one extra row is
+     * fetched to tell whether a next page exists.
+     */
+    public Slice<StudentView> getStudentSlice(Pageable pageable, long generation) {
+        if (pageable.isUnpaged()) {
+            return studentRepository.findViewSliceBy(pageable);
+        }
+        return readCoalescer.slice(
+            pageable.getPageNumber(),
+            pageable.getPageSize(),
+            pageable.getSort(),
+            generation,
+            () -> studentRepository.findViewSliceBy(pageable)
+        );
+    }
+
+    /**
+     * Keyset scrolling cannot select into a projection, so the entities are loaded in a read-only
+     * transaction instead: Hibernate loads them read-only, keeps no snapshots and never flushes.
+     */
+    @Transactional(readOnly = true)
+    public Window<StudentView> getStudents(Sort sort, int size, KeysetScrollPosition position) {
+        return studentRepository.findBy(position, sort, Limit.of(size)).map(StudentView::of);
+    }
+
+    public long estimateStudentCount() {
+        return countEstimator.estimate();
     }
 
+    /**
+     * Served from the {@value StudentCache#NAME} cache, see {@link StudentCache}; concurrent misses
+     * for the same id share one query, see {@link StudentReadCoalescer}.
+     */
     public Student getStudentById(Long id) {
-        return studentRepository.findById(id)
-            .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
+        return studentCache.get(id, generation -> readCoalescer.byId(id, generation, () -> loadStudent(id)));
+    }
+
+    /**
+     * Loads all given students with one {@code IN} query. The map follows the order of {@code ids};
+     * ids that do not exist are left out.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Student> getStudentsByIds(Collection<Long> ids) {
+        Map<Long, Student> byId = studentRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Student::getId, Function.identity()));
+
+        Map<Long, Student> ordered = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Student student = byId.get(id);
+            if (student != null) {
+                ordered.put(id, student);
+            }
+        }
+        return ordered;
     }
 
+    /**
+     * Not {@code @Transactional}: the insert runs in the repository's own transaction, or, with group
+     * commit enabled, in the {@link StudentGroupCommitter}'s batch transaction, and the caller must not
+     * hold a connection while it waits for that batch. Validation errors are raised before queueing.
+     */
     public Student createStudent(Student student) {
-        validateStudent(student);
-        resetIdentifier(student);
-        return studentRepository.save(student);
+        StudentValidation.validate(student);
+        StudentValidation.prepareForInsert(student);
+        emailIndex.checkAvailable(student.getEmail(), null);
+        if (groupCommitter.isEnabled()) {
+            return groupCommitter.create(student);
+        }
+        Student created = studentRepository.save(student);
+        eventPublisher.publishEvent(StudentChangedEvent.created(created));
+        return created;
     }
 
+    @Transactional
     public Student updateStudent(Long id, Student studentDetails) {
-        Student existing = getStudentById(id);
+        Student existing = loadStudent(id);
 
-        validateStudent(studentDetails);
+        StudentValidation.validate(studentDetails);
+        emailIndex.checkAvailable(studentDetails.getEmail().trim(), id);
 
         existing.setFirstName(studentDetails.getFirstName().trim());
         existing.setLastName(studentDetails.getLastName().trim());
         existing.setEmail(studentDetails.getEmail().trim());
         existing.setDateOfBirth(studentDetails.getDateOfBirth());
 
-        return studentRepository.save(existing);
+        Student updated = studentRepository.save(existing);
+        eventPublisher.publishEvent(StudentChangedEvent.updated(updated));
+        return updated;
     }
 
-    public void deleteStudent(Long id) {
-        Student existing = getStudentById(id);
-        studentRepository.deleteById(existing.getId());
-    }
-
-    private void validateStudent(Student student) {
-        if (student == null) {
-            throw new InvalidStudentDataException("student", null, "error.student.payload-null");
-        }
-
-        String firstName = student.getFirstName();
-        if (!StringUtils.hasText(firstName)) {
-            throw new InvalidStudentDataException("firstName", firstName, "error.student.first-name.required");
+    /**
+     * Applies a partial update with one {@code UPDATE} statement; the student is never loaded. A
+     * missing id is detected from the affected-row count.
+     */
+    @Transactional
+    public void patchStudent(Long id, StudentPatch patch) {
+        StudentValidation.validatePatch(patch);
+        StudentPatch trimmed = StudentValidation.trim(patch);
+        if (trimmed.email() != null) {
+            emailIndex.checkAvailable(trimmed.email(), id);
         }
 
-        String lastName = student.getLastName();
-        if (!StringUtils.hasText(lastName)) {
-            throw new InvalidStudentDataException("lastName", lastName, "error.student.last-name.required");
+        if (studentRepository.patch(id, trimmed) == 0) {
+            throw new ResourceNotFoundException("Student", "id", id);
         }
+        eventPublisher.publishEvent(StudentChangedEvent.patched(id, trimmed));
+    }
 
-        String email = student.getEmail();
-        if (!StringUtils.hasText(email)) {
-            throw new InvalidStudentDataException("email", email, "error.student.email.required");
-        }
+    @Transactional
+    public void deleteStudent(Long id) {
+        Student existing = loadStudent(id);
+        studentRepository.delete(existing);
+        eventPublisher.publishEvent(StudentChangedEvent.deleted(existing.getId()));
+    }
 
-        String trimmedEmail = email.trim();
-        if (!EMAIL_PATTERN.matcher(trimmedEmail).matches()) {
-            throw new InvalidStudentDataException("email", trimmedEmail, "error.student.email.invalid");
+    /**
+     * Deletes all given students with one {@code DELETE ... WHERE id IN}. The existing ids are looked
+     * up first (ids only, no rows are loaded) so that a change event is published for each deleted
+     * student; they are returned in the order of {@code ids}.
+     */
+    @Transactional
+    public List<Long> deleteStudents(Collection<Long> ids) {
+        Set<Long> existing = new HashSet<>(studentRepository.findExistingIds(ids));
+        if (existing.isEmpty()) {
+            return List.of();
         }
 
-        if (student.getDateOfBirth() == null) {
-            throw new InvalidStudentDataException("dateOfBirth", null, "error.student.date-of-birth.required");
-        }
+        studentRepository.deleteAllByIdInBatch(existing);
+        List<Long> deleted = ids.stream().filter(existing::contains).toList();
+        deleted.forEach(id -> eventPublisher.publishEvent(StudentChangedEvent.deleted(id)));
+        return deleted;
     }
 
-    private void resetIdentifier(Student student) {
-        student.setId(null);
-        student.setFirstName(student.getFirstName().trim());
-        student.setLastName(student.getLastName().trim());
-        student.setEmail(student.getEmail().trim());
+    /**
+     * Loads a fresh, managed entity for the write methods, bypassing the cache and request coalescing.
+     */
+    private Student loadStudent(Long id) {
+        return studentRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("Student", "id", id));
     }
 }
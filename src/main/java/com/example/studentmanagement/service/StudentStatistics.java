@@ -0,0 +1,243 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentBirthYearCount;
+import com.example.studentmanagement.model.StudentEmailDomainCount;
+import com.example.studentmanagement.repository.StudentRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Materialized counters for the summary panel: the student total, students per birth year and
+ * students per email domain, each read in O(1).
+ *
+ * <p>Every counter is a {@link LongAdder}, so concurrent writers increment separate cells instead
+ * of contending on one value. They are adjusted after each committed {@link StudentChangedEvent};
+ * a rolled-back write never reaches them. Partial updates and bulk deletes do not say what a
+ * student's previous birth year or domain was, so those are remembered per id.
+ *
+ * <p>The counters are built from the repository before the web server starts. {@link #reconcile()}
+ * periodically compares them with {@code GROUP BY} queries and rebuilds them when they drifted, for
+ * example after writes that bypassed {@link StudentService}; every detected drift increments
+ * {@code student.stats.drift}. A write committing while the check runs can show up as a one-off
+ * drift, which the rebuild absorbs.
+ */
+@Component
+public class StudentStatistics implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(StudentStatistics.class);
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final StudentRepository studentRepository;
+    private final Counter driftCounter;
+    // Adders are applied under the read lock, so they run concurrently; a rebuild takes the write lock.
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final LongAdder total = new LongAdder();
+    private final Map<Integer, LongAdder> byBirthYear = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> byEmailDomain = new ConcurrentHashMap<>();
+    private final Map<Long, Dimensions> dimensionsById = new ConcurrentHashMap<>();
+
+    public StudentStatistics(StudentRepository studentRepository, MeterRegistry meterRegistry) {
+        this.studentRepository = studentRepository;
+        this.driftCounter = Counter.builder("student.stats.drift")
+            .description("Reconciliations that found the student statistics out of line with the database")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            total.reset();
+            byBirthYear.clear();
+            byEmailDomain.clear();
+            dimensionsById.clear();
+
+            ScrollPosition position = ScrollPosition.keyset();
+            Window<Student> window;
+            do {
+                window = studentRepository.findBy(position, Sort.by("id"), Limit.of(REBUILD_BATCH_SIZE));
+                window.forEach(student -> apply(student.getId(), Dimensions.of(student.getDateOfBirth(), student.getEmail())));
+                if (!window.isEmpty()) {
+                    position = window.positionAt(window.size() - 1);
+                }
+            } while (window.hasNext());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public long total() {
+        return total.sum();
+    }
+
+    public long countByBirthYear(int year) {
+        LongAdder adder = byBirthYear.get(year);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public long countByEmailDomain(String domain) {
+        LongAdder adder = byEmailDomain.get(domain);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * All counters at once, with birth years in ascending order and the {@code domainLimit} largest
+     * domains. Counters keep moving while this is read, so the parts may differ by in-flight writes.
+     */
+    public Snapshot snapshot(int domainLimit) {
+        Map<Integer, Long> years = new TreeMap<>();
+        byBirthYear.forEach((year, adder) -> {
+            long count = adder.sum();
+            if (count > 0) {
+                years.put(year, count);
+            }
+        });
+
+        Map<String, Long> domains = byEmailDomain.entrySet().stream()
+            .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+            .filter(entry -> entry.getValue() > 0)
+            .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()).thenComparing(Map.Entry.comparingByKey()))
+            .limit(domainLimit)
+            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> a, LinkedHashMap::new));
+
+        return new Snapshot(total(), years, domains);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStudentChanged(StudentChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED -> apply(event.id(), Dimensions.of(event.dateOfBirth(), event.email()));
+                case DELETED -> apply(event.id(), null);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Compares the counters with the database and rebuilds them when they differ.
+     *
+     * @return whether drift was found
+     */
+    @Scheduled(
+        initialDelayString = "${app.students.stats.reconcile-interval:PT10M}",
+        fixedDelayString = "${app.students.stats.reconcile-interval:PT10M}"
+    )
+    public boolean reconcile() {
+        long expectedTotal = studentRepository.count();
+        Map<Integer, Long> expectedYears = studentRepository.countByBirthYear().stream()
+            .collect(Collectors.toMap(StudentBirthYearCount::year, StudentBirthYearCount::count));
+        Map<String, Long> expectedDomains = studentRepository.countByEmailDomain().stream()
+            .collect(Collectors.toMap(StudentEmailDomainCount::domain, StudentEmailDomainCount::count));
+
+        boolean drifted = total() != expectedTotal
+            || !expectedYears.equals(nonZero(byBirthYear))
+            || !expectedDomains.equals(nonZero(byEmailDomain));
+        if (drifted) {
+            driftCounter.increment();
+            log.warn(
+                "Student statistics drifted from the database (total {} vs {}), rebuilding",
+                total(),
+                expectedTotal
+            );
+            rebuild();
+        }
+        return drifted;
+    }
+
+    /**
+     * Moves one student from its previous dimensions to {@code next}; {@code null} removes it. A
+     * partial update only carries the fields it changed, the others are taken from before.
+     */
+    private void apply(Long id, Dimensions next) {
+        dimensionsById.compute(id, (key, previous) -> {
+            Dimensions merged = next == null ? null : next.orElse(previous);
+            if (merged != null && !merged.isComplete()) {
+                return previous;
+            }
+            if (previous != null) {
+                total.decrement();
+                adder(byBirthYear, previous.birthYear()).decrement();
+                adder(byEmailDomain, previous.emailDomain()).decrement();
+            }
+            if (merged != null) {
+                total.increment();
+                adder(byBirthYear, merged.birthYear()).increment();
+                adder(byEmailDomain, merged.emailDomain()).increment();
+            }
+            return merged;
+        });
+    }
+
+    private static <K> LongAdder adder(Map<K, LongAdder> counters, K key) {
+        return counters.computeIfAbsent(key, ignored -> new LongAdder());
+    }
+
+    private static <K> Map<K, Long> nonZero(Map<K, LongAdder> counters) {
+        Map<K, Long> values = new HashMap<>();
+        counters.forEach((key, adder) -> {
+            long count = adder.sum();
+            if (count != 0) {
+                values.put(key, count);
+            }
+        });
+        return values;
+    }
+
+    public record Snapshot(long total, Map<Integer, Long> byBirthYear, Map<String, Long> byEmailDomain) {
+    }
+
+    private record Dimensions(Integer birthYear, String emailDomain) {
+
+        static Dimensions of(LocalDate dateOfBirth, String email) {
+            return new Dimensions(
+                dateOfBirth == null ? null : dateOfBirth.getYear(),
+                email == null ? null : StudentAnalyticsReplica.domainOf(email)
+            );
+        }
+
+        Dimensions orElse(Dimensions previous) {
+            if (previous == null) {
+                return this;
+            }
+            return new Dimensions(
+                Objects.requireNonNullElse(birthYear, previous.birthYear()),
+                Objects.requireNonNullElse(emailDomain, previous.emailDomain())
+            );
+        }
+
+        boolean isComplete() {
+            return birthYear != null && emailDomain != null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.studentmanagement.service;
+
+import com.example.studentmanagement.exception.InvalidStudentDataException;
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentPatch;
+import java.util.regex.Pattern;
+import org.springframework.util.StringUtils;
+
+/**
+ * Business rules shared by every path that writes students (single requests and bulk import).
+ */
+final class StudentValidation {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private StudentValidation() {
+    }
+
+    static void validate(Student student) {
+        if (student == null) {
+            throw new InvalidStudentDataException("student", null, "error.student.payload-null");
+        }
+
+        String firstName = student.getFirstName();
+        if (!StringUtils.hasText(firstName)) {
+            throw new InvalidStudentDataException("firstName", firstName, "error.student.first-name.required");
+        }
+
+        String lastName = student.getLastName();
+        if (!StringUtils.hasText(lastName)) {
+            throw new InvalidStudentDataException("lastName", lastName, "error.student.last-name.required");
+        }
+
+        String email = student.getEmail();
+        if (!StringUtils.hasText(email)) {
+            throw new InvalidStudentDataException("email", email, "error.student.email.required");
+        }
+
+        String trimmedEmail = email.trim();
+        if (!EMAIL_PATTERN.matcher(trimmedEmail).matches()) {
+            throw new InvalidStudentDataException("email", trimmedEmail, "error.student.email.invalid");
+        }
+
+        if (student.getDateOfBirth() == null) {
+            throw new InvalidStudentDataException("dateOfBirth", null, "error.student.date-of-birth.required");
+        }
+    }
+
+    /**
+     * Checks only the fields present in the patch, with the same rules as {@link #validate(Student)}.
+     */
+    static void validatePatch(StudentPatch patch) {
+        if (patch == null || patch.isEmpty()) {
+            throw new InvalidStudentDataException("student", null, "error.student.patch.empty");
+        }
+        if (patch.firstName() != null && !StringUtils.hasText(patch.firstName())) {
+            throw new InvalidStudentDataException("firstName", patch.firstName(), "error.student.first-name.required");
+        }
+        if (patch.lastName() != null && !StringUtils.hasText(patch.lastName())) {
+            throw new InvalidStudentDataException("lastName", patch.lastName(), "error.student.last-name.required");
+        }
+        if (patch.email() != null) {
+            if (!StringUtils.hasText(patch.email())) {
+                throw new InvalidStudentDataException("email", patch.email(), "error.student.email.required");
+            }
+            String trimmedEmail = patch.email().trim();
+            if (!EMAIL_PATTERN.matcher(trimmedEmail).matches()) {
+                throw new InvalidStudentDataException("email", trimmedEmail, "error.student.email.invalid");
+            }
+        }
+    }
+
+    static StudentPatch trim(StudentPatch patch) {
+        return new StudentPatch(
+            patch.firstName() == null ? null : patch.firstName().trim(),
+            patch.lastName() == null ? null : patch.lastName().trim(),
+            patch.email() == null ? null : patch.email().trim(),
+            patch.dateOfBirth()
+        );
+    }
+
+    static void prepareForInsert(Student student) {
+        student.setId(null);
+        student.setFirstName(student.getFirstName().trim());
+        student.setLastName(student.getLastName().trim());
+        student.setEmail(student.getEmail().trim());
+    }
+}
@@ -0,0 +1,14 @@
+-- Schema for the fast-startup profile, which validates the mapping instead of letting Hibernate
+-- diff and update it. Must match model/Student; SchemaValidator fails the start on any drift.
+create sequence if not exists students_seq start with 1 increment by 50;
+
+create table if not exists students (
+    id bigint not null,
+    first_name varchar(100) not null,
+    last_name varchar(100) not null,
+    email varchar(150) not null,
+    date_of_birth date not null,
+    version bigint not null,
+    primary key (id),
+    constraint uk_students_email unique (email)
+);
@@ -0,0 +1,207 @@
+package com.example.studentmanagement.admission;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.studentmanagement.config.AdmissionControlProperties;
+import com.example.studentmanagement.config.AdmissionControlProperties.Limits;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AdmissionControlFilterTest {
+
+    private static final Limits UNLIMITED = new Limits(0, 0, 0);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final ResourceBundleMessageSource messageSource = new ResourceBundleMessageSource();
+
+    @BeforeEach
+    void setUp() {
+        messageSource.setBasename("messages");
+        messageSource.setDefaultEncoding("UTF-8");
+        messageSource.setFallbackToSystemLocale(false);
+    }
+
+    @Test
+    void rateLimit_rejectsOverBurstPerClientWithRetryAfter() throws Exception {
+        AdmissionControlFilter filter = filter(new Limits(0.5, 2, 0), UNLIMITED, UNLIMITED);
+
+        assertEquals(200, get(filter, "a").getStatus());
+        assertEquals(200, get(filter, "a").getStatus());
+        MockHttpServletResponse rejected = get(filter, "a");
+        assertEquals(429, rejected.getStatus());
+        assertEquals("2", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("\"message\":\"Too many requests; retry after 2 seconds.\""));
+
+        assertEquals(200, get(filter, "b").getStatus(), "other clients keep their own bucket");
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        assertEquals(200, get(filter, "a").getStatus(), "a token is refilled after Retry-After");
+        assertEquals(1.0, meterRegistry.get(AdmissionControlFilter.REJECTED_METRIC)
+            .tag("class", "read")
+            .tag("reason", "rate")
+            .counter()
+            .count());
+    }
+
+    @Test
+    void rateLimit_isTrackedPerEndpointClass() throws Exception {
+        AdmissionControlFilter filter = filter(UNLIMITED, new Limits(1, 1, 0), UNLIMITED);
+
+        assertEquals(200, perform(filter, request("POST", "/api/v1/students", "a")).getStatus());
+        assertEquals(429, perform(filter, request("DELETE", "/api/v1/students/1", "a")).getStatus());
+        assertEquals(200, get(filter, "a").getStatus());
+    }
+
+    @Test
+    void rateLimit_ignoresTheClientHeaderByDefault() throws Exception {
+        AdmissionControlFilter filter = filter(new Limits(1, 2, 0), UNLIMITED, UNLIMITED);
+
+        assertEquals(200, perform(filter, request("GET", "/api/v1/students", "a", "first")).getStatus());
+        assertEquals(200, perform(filter, request("GET", "/api/v1/students", "a", "second")).getStatus());
+        assertEquals(429, perform(filter, request("GET", "/api/v1/students", "a", "third")).getStatus(),
+            "a new header value does not buy a new bucket");
+    }
+
+    @Test
+    void rateLimit_trustsTheClientHeaderOnlyFromConfiguredProxies() throws Exception {
+        AdmissionControlFilter filter = filter(properties("X-Client-Id", List.of("proxy"), new Limits(1, 1, 0)));
+
+        assertEquals(200, perform(filter, request("GET", "/api/v1/students", "proxy", "first")).getStatus());
+        assertEquals(200, perform(filter, request("GET", "/api/v1/students", "proxy", "second")).getStatus());
+        assertEquals(429, perform(filter, request("GET", "/api/v1/students", "proxy", "first")).getStatus());
+
+        assertEquals(200, perform(filter, request("GET", "/api/v1/students", "a", "third")).getStatus());
+        assertEquals(429, perform(filter, request("GET", "/api/v1/students", "a", "fourth")).getStatus());
+    }
+
+    @Test
+    void clientHeader_requiresTrustedProxies() {
+        assertThrows(IllegalArgumentException.class, () -> properties("X-Client-Id", List.of(), UNLIMITED));
+    }
+
+    @Test
+    void rejection_isLocalized() throws Exception {
+        AdmissionControlFilter filter = filter(new Limits(1, 1, 0), UNLIMITED, UNLIMITED);
+        get(filter, "a");
+
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("vi"));
+        MockHttpServletResponse response;
+        try {
+            response = get(filter, "a");
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+
+        assertEquals(429, response.getStatus());
+        assertTrue(response.getContentAsString().contains("Quá nhiều yêu cầu; vui lòng thử lại sau 1 giây."));
+    }
+
+    @Test
+    void concurrencyLimit_shedsWith503WhileSlotsAreTaken() throws Exception {
+        AdmissionControlFilter filter = filter(new Limits(0, 0, 1), UNLIMITED, UNLIMITED);
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+
+        MockHttpServletResponse outer = perform(filter, request("GET", "/api/v1/students", "a"), (request, response) -> {
+            nested[0] = get(filter, "b");
+        });
+
+        assertEquals(200, outer.getStatus());
+        assertEquals(503, nested[0].getStatus());
+        assertEquals("3", nested[0].getHeader("Retry-After"));
+        assertEquals(200, get(filter, "b").getStatus(), "the slot is released when the request ends");
+    }
+
+    @Test
+    void concurrencyLimit_holdsAsyncRequestsUntilTheyComplete() throws Exception {
+        AdmissionControlFilter filter = filter(UNLIMITED, UNLIMITED, new Limits(0, 0, 1));
+        MockHttpServletRequest export = request("GET", "/api/v1/students/export", "a");
+        export.setAsyncSupported(true);
+
+        perform(filter, export, (request, response) -> request.startAsync());
+
+        assertEquals(503, perform(filter, request("GET", "/api/v1/students/export", "b")).getStatus());
+        ((MockAsyncContext) export.getAsyncContext()).complete();
+        assertEquals(200, perform(filter, request("GET", "/api/v1/students/export", "b")).getStatus());
+    }
+
+    private AdmissionControlFilter filter(Limits read, Limits write, Limits export) {
+        return filter(new AdmissionControlProperties(
+            true,
+            null,
+            List.of(),
+            100,
+            Duration.ofSeconds(3),
+            read,
+            write,
+            export
+        ));
+    }
+
+    private AdmissionControlFilter filter(AdmissionControlProperties properties) {
+        return new AdmissionControlFilter(properties, messageSource, objectMapper, meterRegistry, clock::get);
+    }
+
+    private static AdmissionControlProperties properties(String clientHeader, List<String> trustedProxies, Limits read) {
+        return new AdmissionControlProperties(
+            true,
+            clientHeader,
+            trustedProxies,
+            100,
+            Duration.ofSeconds(3),
+            read,
+            UNLIMITED,
+            UNLIMITED
+        );
+    }
+
+    private MockHttpServletResponse get(AdmissionControlFilter filter, String client) throws ServletException, IOException {
+        return perform(filter, request("GET", "/api/v1/students", client));
+    }
+
+    private MockHttpServletResponse perform(AdmissionControlFilter filter, MockHttpServletRequest request) throws ServletException, IOException {
+        return perform(filter, request, (req, res) -> {
+        });
+    }
+
+    private MockHttpServletResponse perform(
+        AdmissionControlFilter filter,
+        MockHttpServletRequest request,
+        FilterChain chain
+    ) throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String address) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(address);
+        return request;
+    }
+
+    private static MockHttpServletRequest request(String method, String uri, String address, String clientHeader) {
+        MockHttpServletRequest request = request(method, uri, address);
+        request.addHeader("X-Client-Id", clientHeader);
+        return request;
+    }
+}
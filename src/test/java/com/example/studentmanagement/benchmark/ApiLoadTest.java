@@ -0,0 +1,291 @@
+package com.example.studentmanagement.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.repository.StudentRepository;
+import com.example.studentmanagement.service.StudentSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Open-model load test for {@code /api/v1/students} against the running application and its H2
+ * database.
+ *
+ * <p>Requests are issued at a fixed arrival rate whether or not earlier ones have finished, and each
+ * latency is measured from the moment the request was scheduled, so a stalled server shows up in the
+ * tail instead of silently lowering the offered load (coordinated omission). Every endpoint gets its
+ * own HdrHistogram; the report with p50/p90/p99/p99.9/max, throughput and error counts is written to
+ * {@code target/benchmarks/api-load.json}.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark -Dtest=ApiLoadTest}. Tunables (system properties):
+ * {@code load.rate} requests per second (default 500), {@code load.warmup} and {@code load.duration}
+ * (ISO-8601, default {@code PT5S}/{@code PT30S}), {@code load.seed} pre-loaded students (default
+ * 2000), and the regression gates {@code load.max-error-rate} (default 0.01) and
+ * {@code load.max-p99-ms} (off unless set).
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {"logging.level.root=WARN", "app.admission.enabled=false"})
+class ApiLoadTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final int rate = Integer.getInteger("load.rate", 500);
+    private final Duration warmup = Duration.parse(System.getProperty("load.warmup", "PT5S"));
+    private final Duration duration = Duration.parse(System.getProperty("load.duration", "PT30S"));
+    private final int seed = Integer.getInteger("load.seed", 2000);
+    private final double maxErrorRate = Double.parseDouble(System.getProperty("load.max-error-rate", "0.01"));
+    private final String maxP99Millis = System.getProperty("load.max-p99-ms");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentSearchIndex studentSearchIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ConcurrentLinkedQueue<Long> created = new ConcurrentLinkedQueue<>();
+    private final Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+    private List<Long> seededIds;
+
+    @Test
+    void mixedTraffic() throws Exception {
+        studentRepository.deleteAll();
+        seededIds = studentRepository.saveAll(IntStream.range(0, seed)
+                .mapToObj(i -> new Student("Seed" + i, "Load" + i, "seed" + i + "@example.com", LocalDate.of(1995, 1, 1)))
+                .toList())
+            .stream()
+            .map(Student::getId)
+            .toList();
+        studentSearchIndex.rebuild();
+
+        drive(warmup);
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new Stats());
+        }
+        Instant startedAt = Instant.now();
+        drive(duration);
+
+        Map<String, Object> report = report(startedAt);
+        Path file = Path.of("target", "benchmarks", "api-load.json");
+        Files.createDirectories(file.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+        System.out.println(objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+
+        stats.forEach((endpoint, endpointStats) -> {
+            long total = endpointStats.histogram.getTotalCount() + endpointStats.errors.sum();
+            assertTrue(total > 0, "no requests issued for " + endpoint);
+            double errorRate = endpointStats.errors.sum() / (double) total;
+            assertTrue(errorRate <= maxErrorRate, endpoint + " error rate " + errorRate + " exceeds " + maxErrorRate);
+            if (maxP99Millis != null) {
+                double p99 = endpointStats.histogram.getValueAtPercentile(99) / 1000.0;
+                assertTrue(p99 <= Double.parseDouble(maxP99Millis), endpoint + " p99 " + p99 + " ms exceeds " + maxP99Millis);
+            }
+        });
+    }
+
+    /**
+     * Issues requests at the configured rate for {@code period}, then waits for the stragglers.
+     */
+    private void drive(Duration period) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long start = System.nanoTime();
+        long requests = period.toNanos() / intervalNanos;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < requests; i++) {
+                long intended = start + i * intervalNanos;
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = Endpoint.pick(ThreadLocalRandom.current().nextInt(100));
+                executor.submit(() -> call(endpoint, intended));
+            }
+        }
+    }
+
+    private void call(Endpoint endpoint, long intended) {
+        HttpRequest request = request(endpoint);
+        if (request == null) {
+            return;
+        }
+        Stats endpointStats = stats.get(endpoint);
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+            if (response.statusCode() != endpoint.expectedStatus) {
+                record(endpointStats, -1);
+                return;
+            }
+            record(endpointStats, micros);
+            if (endpoint == Endpoint.CREATE) {
+                Matcher matcher = ID.matcher(response.body());
+                if (matcher.find()) {
+                    created.add(Long.parseLong(matcher.group(1)));
+                }
+            }
+        } catch (IOException ex) {
+            record(endpointStats, -1);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void record(Stats endpointStats, long micros) {
+        if (endpointStats == null) {
+            return;
+        }
+        if (micros < 0) {
+            endpointStats.errors.increment();
+        } else {
+            endpointStats.histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        }
+    }
+
+    private HttpRequest request(Endpoint endpoint) {
+        String base = "http://localhost:" + port + "/api/v1/students";
+        return switch (endpoint) {
+            case LIST -> get(base + "?page=" + ThreadLocalRandom.current().nextInt(seed / 20) + "&size=20&sort=lastName,asc");
+            case GET_BY_ID -> get(base + "/" + randomSeededId());
+            case SEARCH -> get(base + "/search?q=load" + ThreadLocalRandom.current().nextInt(seed / 10));
+            case CREATE -> json(base).POST(HttpRequest.BodyPublishers.ofString(body(sequence.incrementAndGet()))).build();
+            case UPDATE -> json(base + "/" + randomSeededId())
+                .PUT(HttpRequest.BodyPublishers.ofString(body(sequence.incrementAndGet())))
+                .build();
+            case DELETE -> {
+                Long id = created.poll();
+                yield id == null ? null : json(base + "/" + id).DELETE().build();
+            }
+        };
+    }
+
+    private Long randomSeededId() {
+        return seededIds.get(ThreadLocalRandom.current().nextInt(seededIds.size()));
+    }
+
+    private static String body(long n) {
+        return """
+            {"firstName":"Load","lastName":"Test%d","email":"load%d@example.com","dateOfBirth":"2000-01-01"}"""
+            .formatted(n, n);
+    }
+
+    private static HttpRequest get(String url) {
+        return json(url).GET().build();
+    }
+
+    private static HttpRequest.Builder json(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json");
+    }
+
+    private Map<String, Object> report(Instant startedAt) {
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        stats.forEach((endpoint, endpointStats) -> {
+            Histogram histogram = endpointStats.histogram;
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("requests", histogram.getTotalCount());
+            row.put("errors", endpointStats.errors.sum());
+            row.put("throughputPerSecond", histogram.getTotalCount() / (double) duration.toSeconds());
+            row.put("p50Ms", histogram.getValueAtPercentile(50) / 1000.0);
+            row.put("p90Ms", histogram.getValueAtPercentile(90) / 1000.0);
+            row.put("p99Ms", histogram.getValueAtPercentile(99) / 1000.0);
+            row.put("p999Ms", histogram.getValueAtPercentile(99.9) / 1000.0);
+            row.put("maxMs", histogram.getMaxValue() / 1000.0);
+            endpoints.put(endpoint.name().toLowerCase(), row);
+        });
+
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("ratePerSecond", rate);
+        config.put("warmup", warmup.toString());
+        config.put("duration", duration.toString());
+        config.put("seededStudents", seed);
+        config.put("cores", Runtime.getRuntime().availableProcessors());
+        config.put("javaVersion", Runtime.version().toString());
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("startedAt", startedAt.toString());
+        report.put("config", config);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    /**
+     * Traffic mix, in percent of all requests.
+     */
+    private enum Endpoint {
+        LIST(30, 200),
+        GET_BY_ID(35, 200),
+        SEARCH(10, 200),
+        CREATE(10, 201),
+        UPDATE(10, 200),
+        DELETE(5, 204);
+
+        private final int share;
+        private final int expectedStatus;
+
+        Endpoint(int share, int expectedStatus) {
+            this.share = share;
+            this.expectedStatus = expectedStatus;
+        }
+
+        static Endpoint pick(int percentile) {
+            int cumulative = 0;
+            for (Endpoint endpoint : values()) {
+                cumulative += endpoint.share;
+                if (percentile < cumulative) {
+                    return endpoint;
+                }
+            }
+            return LIST;
+        }
+    }
+
+    private static final class Stats {
+
+        private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.studentmanagement.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Plain-text throughput and p50/p99 table shared by the closed-model benchmarks, written to
+ * {@code target/benchmarks} and echoed to stdout.
+ */
+final class BenchmarkReport {
+
+    private final StringBuilder text = new StringBuilder();
+    private final String labelFormat;
+    private final Duration duration;
+
+    /**
+     * @param title first line, followed by the measured duration and the core count
+     * @param labelFormat format of the leading label columns, e.g. {@code "%-10s %-8s"}
+     * @param throughputHeader header of the throughput column
+     * @param labelHeaders headers of the label columns
+     */
+    BenchmarkReport(String title, Duration duration, String labelFormat, String throughputHeader, Object... labelHeaders) {
+        this.labelFormat = labelFormat;
+        this.duration = duration;
+        text.append(title)
+            .append(", duration=").append(duration)
+            .append(", cores=").append(Runtime.getRuntime().availableProcessors())
+            .append('\n')
+            .append(String.format(labelFormat, labelHeaders))
+            .append(String.format(" %12s %10s %10s%n", throughputHeader, "p50 ms", "p99 ms"));
+    }
+
+    void row(LatencyRecorder latencies, Object... labels) {
+        text.append(String.format(labelFormat, labels))
+            .append(String.format(
+                " %12.1f %10.2f %10.2f%n",
+                latencies.count() / (double) duration.toSeconds(),
+                latencies.percentileMillis(50),
+                latencies.percentileMillis(99)
+            ));
+    }
+
+    void write(String fileName) throws IOException {
+        Path file = Path.of("target", "benchmarks", fileName);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, text);
+        System.out.println(text);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.studentmanagement.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.studentmanagement.StudentManagementApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Create throughput with one commit per request versus group commit, at several client
+ * concurrency levels.
+ *
+ * <p>Each mode gets a fresh application context on a random port with its own database. For every
+ * concurrency level, that many client workers loop {@code POST /api/v1/students} with unique emails;
+ * after a warm-up the run records throughput and p50/p99 latency of successful creates and writes a
+ * table to {@code target/benchmarks/group-commit.txt}.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark -Dtest=GroupCommitBenchmarkTest}. Tunables (system
+ * properties): {@code benchmark.concurrency-levels} (default {@code 1,8,32,128}),
+ * {@code benchmark.warmup} and {@code benchmark.duration} (ISO-8601, default {@code PT3S}/{@code PT10S})
+ * and {@code benchmark.datasource-url}. An in-memory H2 commit costs next to nothing, so the gap is
+ * much wider against a database that syncs its log on commit.
+ */
+@Tag("benchmark")
+class GroupCommitBenchmarkTest {
+
+    private final int[] concurrencyLevels = Arrays.stream(System.getProperty("benchmark.concurrency-levels", "1,8,32,128").split(","))
+        .map(String::trim)
+        .mapToInt(Integer::parseInt)
+        .toArray();
+    private final Duration warmup = Duration.parse(System.getProperty("benchmark.warmup", "PT3S"));
+    private final Duration duration = Duration.parse(System.getProperty("benchmark.duration", "PT10S"));
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Test
+    void compareCommitModes() throws Exception {
+        Map<Mode, Map<Integer, LatencyRecorder>> results = new EnumMap<>(Mode.class);
+        for (Mode mode : Mode.values()) {
+            results.put(mode, run(mode));
+        }
+
+        BenchmarkReport report = new BenchmarkReport(
+            "Group commit benchmark: warmup=" + warmup,
+            duration,
+            "%-14s %8s",
+            "creates/s",
+            "mode",
+            "clients"
+        );
+        results.forEach((mode, byConcurrency) -> byConcurrency.forEach((concurrency, latencies) ->
+            report.row(latencies, mode.label, concurrency)));
+        report.write("group-commit.txt");
+
+        results.forEach((mode, byConcurrency) -> assertTrue(
+            byConcurrency.values().stream().allMatch(latencies -> latencies.count() > 0),
+            "no successful creates recorded for " + mode
+        ));
+    }
+
+    private Map<Integer, LatencyRecorder> run(Mode mode) throws InterruptedException {
+        String datasourceUrl = System.getProperty("benchmark.datasource-url", "jdbc:h2:mem:group-commit-" + mode.name().toLowerCase());
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StudentManagementApplication.class)
+                .properties("server.port=0", "logging.level.root=WARN")
+                .run(
+                    "--spring.datasource.url=" + datasourceUrl,
+                    "--app.admission.enabled=false",
+                    "--app.students.group-commit.enabled=" + mode.groupCommit
+                )) {
+            String url = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/students";
+            Map<Integer, LatencyRecorder> results = new LinkedHashMap<>();
+            for (int concurrency : concurrencyLevels) {
+                results.put(concurrency, load(url, concurrency));
+            }
+            return results;
+        }
+    }
+
+    private LatencyRecorder load(String url, int concurrency) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+        LatencyRecorder latencies = new LatencyRecorder();
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < stopAt) {
+                        long begin = System.nanoTime();
+                        if (create(client, url) && begin >= measureFrom) {
+                            latencies.record(System.nanoTime() - begin);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return latencies;
+    }
+
+    private boolean create(HttpClient client, String url) {
+        long n = sequence.incrementAndGet();
+        String body = """
+            {"firstName":"Group","lastName":"Commit%d","email":"group%d@example.com","dateOfBirth":"2000-01-01"}"""
+            .formatted(n, n);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 201;
+        } catch (IOException ex) {
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private enum Mode {
+        PER_REQUEST("per-request", false),
+        GROUP_COMMIT("group-commit", true);
+
+        private final String label;
+        private final boolean groupCommit;
+
+        Mode(String label, boolean groupCommit) {
+            this.label = label;
+            this.groupCommit = groupCommit;
+        }
+    }
+}
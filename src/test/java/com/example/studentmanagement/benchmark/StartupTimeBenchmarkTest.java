@@ -0,0 +1,169 @@
+package com.example.studentmanagement.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Time to first request of the packaged application, before and after the fast-startup work.
+ *
+ * <p>Every run starts a fresh JVM on a free port and measures from process start until
+ * {@code GET /api/v1/students} first answers 200, which includes JVM start, context refresh, schema
+ * handling and the first request through the dispatcher. The modes add one change at a time:
+ * <ul>
+ *   <li>{@code baseline}: {@code java -jar} with the default profile ({@code ddl-auto=update}),</li>
+ *   <li>{@code profile}: the extracted jar with the {@code fast-startup} profile (schema validation),</li>
+ *   <li>{@code aot}: plus the AOT-generated initialization,</li>
+ *   <li>{@code aot-cds}: plus the class-data-sharing archive.</li>
+ * </ul>
+ * The median and best of each mode are written to {@code target/benchmarks/startup.txt}.
+ *
+ * <p>Needs the output of {@code mvn -Pfast-startup package} first, then run with
+ * {@code mvn test -Pbenchmark -Dtest=StartupTimeBenchmarkTest}. Tunables (system properties):
+ * {@code benchmark.startup.runs} (default 5) and {@code benchmark.startup.timeout} (ISO-8601,
+ * default {@code PT60S}).
+ */
+@Tag("benchmark")
+class StartupTimeBenchmarkTest {
+
+    private static final Path FAST_STARTUP_DIRECTORY = Path.of("target", "fast-startup");
+    private static final String JAR = "student-management-0.0.1-SNAPSHOT.jar";
+
+    private final int runs = Integer.getInteger("benchmark.startup.runs", 5);
+    private final Duration timeout = Duration.parse(System.getProperty("benchmark.startup.timeout", "PT60S"));
+    private final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofMillis(200))
+        .build();
+
+    @Test
+    void compareStartupModes() throws Exception {
+        assumeTrue(
+            Files.exists(FAST_STARTUP_DIRECTORY.resolve("application.jsa")),
+            "run mvn -Pfast-startup package first"
+        );
+
+        Map<Mode, long[]> results = new EnumMap<>(Mode.class);
+        for (Mode mode : Mode.values()) {
+            long[] millis = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                millis[run] = timeToFirstRequest(mode);
+            }
+            Arrays.sort(millis);
+            results.put(mode, millis);
+        }
+
+        String report = format(results);
+        Path file = Path.of("target", "benchmarks", "startup.txt");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, report);
+        System.out.println(report);
+
+        assertTrue(results.values().stream().allMatch(millis -> millis[0] > 0));
+    }
+
+    private long timeToFirstRequest(Mode mode) throws IOException, InterruptedException {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+
+        List<String> command = new ArrayList<>(List.of(javaExecutable()));
+        command.addAll(mode.jvmArguments);
+        command.addAll(List.of("-jar", mode.jar.toAbsolutePath().toString(), "--server.port=" + port));
+        command.addAll(mode.applicationArguments);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+            .directory(mode.jar.toAbsolutePath().getParent().toFile())
+            .redirectErrorStream(true)
+            .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+            .start();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/students"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+            long deadline = start + timeout.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException(mode + " exited with " + process.exitValue());
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException notListeningYet) {
+                    // Keep polling until the connector is up.
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException(mode + " did not answer within " + timeout);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private String format(Map<Mode, long[]> results) {
+        StringBuilder report = new StringBuilder()
+            .append("Startup benchmark: time to first request, runs=").append(runs)
+            .append(", cores=").append(Runtime.getRuntime().availableProcessors())
+            .append('\n')
+            .append(String.format("%-10s %12s %12s%n", "mode", "median ms", "best ms"));
+        results.forEach((mode, millis) -> report.append(String.format(
+            "%-10s %12d %12d%n",
+            mode.label,
+            millis[millis.length / 2],
+            millis[0]
+        )));
+        return report.toString();
+    }
+
+    private static String javaExecutable() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private enum Mode {
+        BASELINE("baseline", Path.of("target", JAR), List.of(), List.of()),
+        PROFILE("profile", FAST_STARTUP_DIRECTORY.resolve(JAR), List.of(), List.of("--spring.profiles.active=fast-startup")),
+        AOT(
+            "aot",
+            FAST_STARTUP_DIRECTORY.resolve(JAR),
+            List.of("-Dspring.aot.enabled=true"),
+            List.of("--spring.profiles.active=fast-startup")
+        ),
+        AOT_CDS(
+            "aot-cds",
+            FAST_STARTUP_DIRECTORY.resolve(JAR),
+            List.of("-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true"),
+            List.of("--spring.profiles.active=fast-startup")
+        );
+
+        private final String label;
+        private final Path jar;
+        private final List<String> jvmArguments;
+        private final List<String> applicationArguments;
+
+        Mode(String label, Path jar, List<String> jvmArguments, List<String> applicationArguments) {
+            this.label = label;
+            this.jar = jar;
+            this.jvmArguments = jvmArguments;
+            this.applicationArguments = applicationArguments;
+        }
+    }
+}
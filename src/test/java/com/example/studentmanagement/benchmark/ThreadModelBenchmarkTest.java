@@ -0,0 +1,191 @@
+package com.example.studentmanagement.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.studentmanagement.StudentManagementApplication;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Compares platform and virtual request threads under a closed-model CRUD load.
+ *
+ * <p>Each mode gets a fresh application context on a random port with its own in-memory database.
+ * {@code concurrency} client workers loop create, read, update and delete against it; after a
+ * warm-up the run records per-operation throughput and p50/p99 latency and writes a side-by-side
+ * table to {@code target/benchmarks/thread-model.txt}.
+ *
+ * <p>Run with {@code mvn test -Pbenchmark}. Tunables (system properties): {@code benchmark.concurrency}
+ * (default 1000), {@code benchmark.warmup} and {@code benchmark.duration} (ISO-8601, default
+ * {@code PT10S}/{@code PT30S}), and {@code benchmark.datasource-url} to run against a real database,
+ * where blocking JDBC waits make the difference between the modes far more visible than in H2.
+ */
+@Tag("benchmark")
+class ThreadModelBenchmarkTest {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final int concurrency = Integer.getInteger("benchmark.concurrency", 1000);
+    private final Duration warmup = Duration.parse(System.getProperty("benchmark.warmup", "PT10S"));
+    private final Duration duration = Duration.parse(System.getProperty("benchmark.duration", "PT30S"));
+
+    @Test
+    void compareThreadModels() throws Exception {
+        Map<Mode, Map<Operation, LatencyRecorder>> results = new EnumMap<>(Mode.class);
+        for (Mode mode : Mode.values()) {
+            results.put(mode, run(mode));
+        }
+
+        BenchmarkReport report = new BenchmarkReport(
+            "Thread model benchmark: concurrency=" + concurrency + ", warmup=" + warmup,
+            duration,
+            "%-10s %-8s",
+            "req/s",
+            "mode",
+            "op"
+        );
+        results.forEach((mode, byOperation) -> byOperation.forEach((operation, latencies) ->
+            report.row(latencies, mode.name().toLowerCase(), operation.name().toLowerCase())));
+        report.write("thread-model.txt");
+
+        results.forEach((mode, byOperation) -> assertTrue(
+            byOperation.values().stream().anyMatch(latencies -> latencies.count() > 0),
+            "no successful requests recorded for " + mode
+        ));
+    }
+
+    private Map<Operation, LatencyRecorder> run(Mode mode) throws InterruptedException {
+        List<String> properties = new ArrayList<>(List.of(
+            "server.port=0",
+            "spring.datasource.url=" + System.getProperty("benchmark.datasource-url", "jdbc:h2:mem:benchmark-" + mode.profile),
+            "logging.level.root=WARN"
+        ));
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(StudentManagementApplication.class)
+                .profiles(mode.profile)
+                .properties(properties.toArray(String[]::new))
+                .run("--app.admission.enabled=false")) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/students";
+            return load(baseUrl);
+        }
+    }
+
+    private Map<Operation, LatencyRecorder> load(String baseUrl) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long stopAt = measureFrom + duration.toNanos();
+        AtomicLong sequence = new AtomicLong();
+        Map<Operation, LatencyRecorder> latencies = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyRecorder());
+        }
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int worker = 0; worker < concurrency; worker++) {
+                workers.submit(() -> {
+                    while (System.nanoTime() < stopAt) {
+                        crudCycle(client, baseUrl, sequence.incrementAndGet(), measureFrom, latencies);
+                    }
+                    return null;
+                });
+            }
+        }
+        return latencies;
+    }
+
+    private void crudCycle(
+        HttpClient client,
+        String baseUrl,
+        long n,
+        long measureFrom,
+        Map<Operation, LatencyRecorder> latencies
+    ) {
+        String body = """
+            {"firstName":"Bench","lastName":"User%d","email":"bench%d@example.com","dateOfBirth":"2000-01-01"}"""
+            .formatted(n, n);
+        String created = send(client, Operation.CREATE, json(baseUrl).POST(HttpRequest.BodyPublishers.ofString(body)),
+            201, measureFrom, latencies);
+        if (created == null) {
+            return;
+        }
+        Matcher matcher = ID.matcher(created);
+        if (!matcher.find()) {
+            return;
+        }
+        String url = baseUrl + "/" + matcher.group(1);
+        send(client, Operation.READ, json(url).GET(), 200, measureFrom, latencies);
+        send(client, Operation.UPDATE, json(url).PUT(HttpRequest.BodyPublishers.ofString(body.replace("Bench", "Updated"))),
+            200, measureFrom, latencies);
+        send(client, Operation.DELETE, json(url).DELETE(), 204, measureFrom, latencies);
+    }
+
+    private String send(
+        HttpClient client,
+        Operation operation,
+        HttpRequest.Builder request,
+        int expectedStatus,
+        long measureFrom,
+        Map<Operation, LatencyRecorder> latencies
+    ) {
+        long begin = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            long elapsed = System.nanoTime() - begin;
+            if (response.statusCode() != expectedStatus) {
+                return null;
+            }
+            if (begin >= measureFrom) {
+                latencies.get(operation).record(elapsed);
+            }
+            return response.body();
+        } catch (IOException ex) {
+            return null;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private static HttpRequest.Builder json(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofSeconds(30))
+            .header("Content-Type", "application/json");
+    }
+
+    private enum Mode {
+        PLATFORM("default"),
+        VIRTUAL("virtual-threads");
+
+        private final String profile;
+
+        Mode(String profile) {
+            this.profile = profile;
+        }
+    }
+
+    private enum Operation {
+        CREATE,
+        READ,
+        UPDATE,
+        DELETE
+    }
+}
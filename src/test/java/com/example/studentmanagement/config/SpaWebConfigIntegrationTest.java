@@ -0,0 +1,62 @@
+package com.example.studentmanagement.config;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Runs against the fixture build in {@code src/test/resources/static}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SpaWebConfigIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Hashed assets are cached as immutable and served gzip-encoded when accepted")
+    void assets_areImmutableAndPrecompressed() throws Exception {
+        mockMvc.perform(get("/assets/app-3f2a1c9b.js").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+            .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+            .andExpect(header().string(HttpHeaders.VARY, containsString(HttpHeaders.ACCEPT_ENCODING)));
+
+        mockMvc.perform(get("/assets/app-3f2a1c9b.js"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+            .andExpect(content().string(containsString("test fixture")));
+    }
+
+    @Test
+    @DisplayName("Client-side routes fall back to index.html, which is always revalidated")
+    void routes_fallBackToIndex() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/students/42/edit"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().string(containsString("<div id=\"root\">")));
+        }
+    }
+
+    @Test
+    @DisplayName("A missing file is a 404, never index.html")
+    void missingFiles_areNotFound() throws Exception {
+        mockMvc.perform(get("/assets/app-00000000.js"))
+            .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/favicon.ico"))
+            .andExpect(status().isNotFound());
+    }
+}
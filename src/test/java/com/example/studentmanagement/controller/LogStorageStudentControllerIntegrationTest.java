@@ -0,0 +1,64 @@
+package com.example.studentmanagement.controller;
+
+import com.example.studentmanagement.metrics.QueryBudget;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Runs the controller tests against the log-structured store instead of H2. This store issues no
+ * SQL, so statement budgets are not checked: tests that only assert a budget are switched off, and
+ * the others run their behaviour assertions against an {@link QueryBudget#unchecked()} budget.
+ */
+@ActiveProfiles("log-storage")
+class LogStorageStudentControllerIntegrationTest extends StudentControllerIntegrationTest {
+
+    private static final String SQL_BUDGET = "SQL statement budgets only apply to the JPA store";
+
+    @TempDir
+    static Path directory;
+
+    @DynamicPropertySource
+    static void logStorage(DynamicPropertyRegistry registry) {
+        registry.add("app.students.log-storage.directory", directory::toString);
+    }
+
+    @Override
+    protected QueryBudget queryBudget() {
+        return QueryBudget.unchecked();
+    }
+
+    @Test
+    @Disabled(SQL_BUDGET)
+    @Override
+    void createStudent_queryBudget() {
+    }
+
+    @Test
+    @Disabled(SQL_BUDGET)
+    @Override
+    void getStudentById_queryBudget() {
+    }
+
+    @Test
+    @Disabled(SQL_BUDGET)
+    @Override
+    void getStudents_queryBudget() {
+    }
+
+    @Test
+    @Disabled(SQL_BUDGET)
+    @Override
+    void updateStudent_queryBudget() {
+    }
+
+    @Test
+    @Disabled(SQL_BUDGET)
+    @Override
+    void deleteStudent_queryBudget() {
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.studentmanagement.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.studentmanagement.metrics.QueryBudget;
+import com.example.studentmanagement.repository.StudentRepository;
+import com.example.studentmanagement.service.StudentAnalyticsReplica;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudentAnalyticsControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentAnalyticsReplica analyticsReplica;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository.deleteAll();
+        analyticsReplica.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteAll();
+        analyticsReplica.rebuild();
+    }
+
+    @Test
+    @DisplayName("Analytics endpoints follow writes made through the API without querying the database")
+    void aggregates_followWritesWithoutSql() throws Throwable {
+        Number id = createStudent("mai@gmail.com", "2001-05-05");
+        createStudent("nam@gmail.com", "2001-09-09");
+        createStudent("oanh@hcmus.edu.vn", "1998-02-02");
+
+        QueryBudget.expect().verify(() -> mockMvc.perform(get("/api/v1/students/analytics/birth-years"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].year").value(1998))
+            .andExpect(jsonPath("$[1].year").value(2001))
+            .andExpect(jsonPath("$[1].count").value(2)));
+
+        QueryBudget.expect().verify(() -> mockMvc.perform(get("/api/v1/students/analytics/email-domains").param("limit", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].domain").value("gmail.com"))
+            .andExpect(jsonPath("$[0].count").value(2)));
+
+        mockMvc.perform(delete("/api/v1/students/{id}", id))
+            .andExpect(status().isNoContent());
+
+        QueryBudget.expect().verify(() -> mockMvc.perform(get("/api/v1/students/analytics/ages").param("width", "100"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Age band width must be between 1 and 50 years.")));
+
+        mockMvc.perform(get("/api/v1/students/analytics/ages").param("width", "50"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].fromAge").value(0))
+            .andExpect(jsonPath("$[0].toAge").value(49))
+            .andExpect(jsonPath("$[0].count").value(2));
+    }
+
+    private Number createStudent(String email, String dateOfBirth) throws Exception {
+        String body = """
+            {"firstName":"An","lastName":"Le","email":"%s","dateOfBirth":"%s"}
+            """.formatted(email, dateOfBirth);
+        String response = mockMvc.perform(post("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+}
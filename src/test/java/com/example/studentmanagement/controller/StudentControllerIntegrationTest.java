@@ -2,29 +2,56 @@ package com.example.studentmanagement.controller;
 
 import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.example.studentmanagement.metrics.QueryBudget;
 import com.example.studentmanagement.model.Student;
 import com.example.studentmanagement.repository.StudentRepository;
+import com.example.studentmanagement.service.StudentCountEstimator;
+import com.example.studentmanagement.service.StudentEmailIndex;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.jayway.jsonpath.JsonPath;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -33,15 +60,26 @@ class StudentControllerIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
-    @Autowired
+    @SpyBean
     private StudentRepository studentRepository;
 
+    @Autowired
+    private StudentEmailIndex studentEmailIndex;
+
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private StudentCountEstimator studentCountEstimator;
+
+    @Autowired
+    private StudentResponseCache responseCache;
+
     @BeforeEach
     void setUp() {
         studentRepository.deleteAll();
+        studentEmailIndex.rebuild();
+        responseCache.invalidateAll();
     }
 
     @AfterEach
@@ -49,6 +87,14 @@ class StudentControllerIntegrationTest {
         studentRepository.deleteAll();
     }
 
+    /**
+     * The SQL statement budget that tests check their requests against; overridden for stores
+     * without SQL.
+     */
+    protected QueryBudget queryBudget() {
+        return QueryBudget.expect();
+    }
+
     @Test
     @DisplayName("POST /students returns 201 and body")
     void createStudent_returnsCreated() throws Exception {
@@ -256,6 +302,131 @@ class StudentControllerIntegrationTest {
             .andExpect(jsonPath("$.message").value("Invalid sort property: unknown"));
     }
 
+    @Test
+    @DisplayName("GET /students?count=none omits totals and derives last from the extra row")
+    void getStudents_countNoneSkipsTotals() throws Exception {
+        saveStudentsWithSequentialLastNames(5);
+
+        mockMvc.perform(get("/api/v1/students")
+                .param("count", "none")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(2)))
+            .andExpect(jsonPath("$.page.number").value(0))
+            .andExpect(jsonPath("$.page.totalElements").doesNotExist())
+            .andExpect(jsonPath("$.page.totalPages").doesNotExist())
+            .andExpect(jsonPath("$.page.last").value(false));
+
+        mockMvc.perform(get("/api/v1/students")
+                .param("count", "none")
+                .param("page", "2")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.page.last").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /students?count=estimated reports an estimated total, exact on the last page")
+    void getStudents_countEstimatedReportsTotals() throws Exception {
+        saveStudentsWithSequentialLastNames(5);
+        studentCountEstimator.refresh();
+
+        mockMvc.perform(get("/api/v1/students")
+                .param("count", "estimated")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.page.totalElements").value(5))
+            .andExpect(jsonPath("$.page.totalPages").value(3))
+            .andExpect(jsonPath("$.page.totalEstimated").value(true))
+            .andExpect(jsonPath("$.page.last").value(false));
+
+        mockMvc.perform(get("/api/v1/students")
+                .param("count", "estimated")
+                .param("page", "2")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.page.totalElements").value(5))
+            .andExpect(jsonPath("$.page.totalEstimated").value(false))
+            .andExpect(jsonPath("$.page.last").value(true));
+    }
+
+    @Test
+    @DisplayName("GET /students rejects an unknown count mode")
+    void getStudents_unknownCountModeIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/students").param("count", "sometimes"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Count mode must be one of: exact, none, estimated."));
+    }
+
+    @Test
+    @DisplayName("GET /students?after= walks all rows with keyset cursors")
+    void getStudents_cursorModeWalksAllPages() throws Exception {
+        saveStudentsWithSequentialLastNames(7);
+
+        MvcResult first = mockMvc.perform(get("/api/v1/students")
+                .param("after", "")
+                .param("size", "3")
+                .param("sort", "lastName,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(3)))
+            .andExpect(jsonPath("$.content[0].lastName").value("LastG"))
+            .andExpect(jsonPath("$.page.first").value(true))
+            .andExpect(jsonPath("$.page.last").value(false))
+            .andExpect(jsonPath("$.page.number").doesNotExist())
+            .andExpect(jsonPath("$.page.totalElements").doesNotExist())
+            .andExpect(jsonPath("$.nextCursor").isString())
+            .andReturn();
+
+        MvcResult second = mockMvc.perform(get("/api/v1/students")
+                .param("after", nextCursor(first))
+                .param("size", "3")
+                .param("sort", "lastName,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].lastName").value("LastD"))
+            .andExpect(jsonPath("$.content[2].lastName").value("LastB"))
+            .andExpect(jsonPath("$.page.first").value(false))
+            .andReturn();
+
+        mockMvc.perform(get("/api/v1/students")
+                .param("after", nextCursor(second))
+                .param("size", "3")
+                .param("sort", "lastName,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content", hasSize(1)))
+            .andExpect(jsonPath("$.content[0].lastName").value("LastA"))
+            .andExpect(jsonPath("$.page.last").value(true))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /students rejects a cursor issued for a different sort")
+    void getStudents_cursorWithDifferentSortIsRejected() throws Exception {
+        saveStudentsWithSequentialLastNames(3);
+
+        MvcResult first = mockMvc.perform(get("/api/v1/students")
+                .param("after", "")
+                .param("size", "1")
+                .param("sort", "lastName,asc"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        mockMvc.perform(get("/api/v1/students")
+                .param("after", nextCursor(first))
+                .param("size", "1")
+                .param("sort", "email,asc"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Cursor is invalid or does not match the requested sort."));
+    }
+
+    @Test
+    @DisplayName("GET /students rejects a malformed cursor")
+    void getStudents_malformedCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/students").param("after", "not-a-cursor"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.status").value(400));
+    }
+
     @Test
     @DisplayName("GET /students/{id} returns 200 when found")
     void getStudentById_returnsOk() throws Exception {
@@ -334,6 +505,338 @@ class StudentControllerIntegrationTest {
             .andExpect(jsonPath("$.timestamp").exists());
     }
 
+    @Test
+    @DisplayName("GET /students/{id} returns 304 for a matching ETag until the student changes")
+    void getStudentById_honoursIfNoneMatch() throws Exception {
+        Student saved = studentRepository.save(new Student(
+            "Hoa",
+            "Vu",
+            "hoa.vu@example.com",
+            LocalDate.of(2000, 2, 2)
+        ));
+
+        MvcResult first = mockMvc.perform(get("/api/v1/students/{id}", saved.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(jsonPath("$.version").value(0))
+            .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/students/{id}", saved.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(content().string(""));
+
+        mockMvc.perform(put("/api/v1/students/{id}", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new StudentPayload("Hoa", "Vu", "hoa.vu2@example.com", LocalDate.of(2000, 2, 2)))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.version").value(1));
+
+        mockMvc.perform(get("/api/v1/students/{id}", saved.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+            .andExpect(jsonPath("$.email").value("hoa.vu2@example.com"));
+    }
+
+    @Test
+    @DisplayName("GET /students/{id} does not match an ETag issued before a restart for the same id and version")
+    void getStudentById_ignoresTagFromPreviousStart() throws Exception {
+        Student saved = studentRepository.save(new Student("Nam", "Bui", "nam.bui@example.com", LocalDate.of(2000, 3, 3)));
+
+        String etag = mockMvc.perform(get("/api/v1/students/{id}", saved.getId()))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+        String previousStart = etag.replaceFirst("^\"students-[0-9a-z]+-", "\"students-0-");
+        assertNotEquals(etag, previousStart);
+
+        mockMvc.perform(get("/api/v1/students/{id}", saved.getId()).header(HttpHeaders.IF_NONE_MATCH, previousStart))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(jsonPath("$.email").value("nam.bui@example.com"));
+    }
+
+    @Test
+    @DisplayName("GET /students returns 304 for a matching ETag until any student changes")
+    void getStudents_honoursIfNoneMatch() throws Exception {
+        seedDefaultStudents();
+
+        MvcResult first = mockMvc.perform(get("/api/v1/students").param("size", "2"))
+            .andExpect(status().isOk())
+            .andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/students").param("size", "2").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new StudentPayload("New", "Student", "new.student@example.com", LocalDate.of(2001, 1, 1)))))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/v1/students").param("size", "2").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.page.totalElements").value(4));
+    }
+
+    @Test
+    @DisplayName("GET /students/{id} and GET /students serve CBOR or Smile when the Accept header asks for it")
+    void getStudents_negotiatesBinaryFormats() throws Exception {
+        Student saved = studentRepository.save(new Student("Binh", "Cao", "binh.cao@example.com", LocalDate.of(2001, 3, 4)));
+
+        MvcResult json = mockMvc.perform(get("/api/v1/students/{id}", saved.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+            .andReturn();
+        MvcResult cbor = mockMvc.perform(get("/api/v1/students/{id}", saved.getId())
+                .accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+            .andReturn();
+
+        String cborTag = cbor.getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(json.getResponse().getHeader(HttpHeaders.ETAG), cborTag);
+        JsonNode student = new CBORMapper().readTree(cbor.getResponse().getContentAsByteArray());
+        assertEquals("binh.cao@example.com", student.get("email").asText());
+        assertEquals("2001-03-04", student.get("dateOfBirth").asText());
+
+        mockMvc.perform(get("/api/v1/students/{id}", saved.getId())
+                .accept(MediaType.APPLICATION_CBOR)
+                .header(HttpHeaders.IF_NONE_MATCH, cborTag))
+            .andExpect(status().isNotModified());
+
+        byte[] page = mockMvc.perform(get("/api/v1/students")
+                .header(HttpHeaders.ACCEPT, "application/json;q=0.5, application/x-jackson-smile"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-jackson-smile"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+        JsonNode pageNode = new SmileMapper().readTree(page);
+        assertEquals(saved.getId(), pageNode.get("content").get(0).get("id").asLong());
+        assertEquals(1, pageNode.get("page").get("totalElements").asInt());
+    }
+
+    @Test
+    @DisplayName("POST /students stays within its SQL budget: one INSERT")
+    void createStudent_queryBudget() throws Throwable {
+        StudentPayload payload = new StudentPayload("Budget", "Create", "budget.create@example.com", LocalDate.of(2000, 1, 1));
+
+        queryBudget().inserts(1).verify(() -> mockMvc.perform(post("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(payload)))
+            .andExpect(status().isCreated()));
+    }
+
+    @Test
+    @DisplayName("GET /students/{id} stays within its SQL budget: one SELECT, none once cached")
+    void getStudentById_queryBudget() throws Throwable {
+        Student saved = studentRepository.save(new Student("Budget", "Read", "budget.read@example.com", LocalDate.of(2000, 1, 1)));
+
+        queryBudget().selects(1).verify(() -> mockMvc.perform(get("/api/v1/students/{id}", saved.getId()))
+            .andExpect(status().isOk()));
+        queryBudget().verify(() -> mockMvc.perform(get("/api/v1/students/{id}", saved.getId()))
+            .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("GET /students stays within its SQL budget in every paging mode")
+    void getStudents_queryBudget() throws Throwable {
+        seedDefaultStudents();
+
+        queryBudget().selects(2).verify(() -> mockMvc.perform(get("/api/v1/students").param("size", "2"))
+            .andExpect(status().isOk()));
+        queryBudget().selects(1).verify(() -> mockMvc.perform(get("/api/v1/students").param("size", "2").param("count", "none"))
+            .andExpect(status().isOk()));
+        queryBudget().selects(1).verify(() -> mockMvc.perform(get("/api/v1/students").param("size", "2").param("after", ""))
+            .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("PUT /students/{id} stays within its SQL budget: one SELECT and one UPDATE")
+    void updateStudent_queryBudget() throws Throwable {
+        Student saved = studentRepository.save(new Student("Budget", "Update", "budget.update@example.com", LocalDate.of(2000, 1, 1)));
+        StudentPayload payload = new StudentPayload("Budget", "Updated", "budget.updated@example.com", LocalDate.of(2000, 1, 1));
+
+        queryBudget().selects(1).updates(1).verify(() -> mockMvc.perform(put("/api/v1/students/{id}", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(payload)))
+            .andExpect(status().isOk()));
+    }
+
+    @Test
+    @DisplayName("DELETE /students/{id} stays within its SQL budget: one SELECT and one DELETE")
+    void deleteStudent_queryBudget() throws Throwable {
+        Student saved = studentRepository.save(new Student("Budget", "Delete", "budget.delete@example.com", LocalDate.of(2000, 1, 1)));
+
+        queryBudget().selects(1).deletes(1).verify(() -> mockMvc.perform(delete("/api/v1/students/{id}", saved.getId()))
+            .andExpect(status().isNoContent()));
+    }
+
+    @Test
+    @DisplayName("GET /students/batch returns students in request order with one SELECT and reports missing ids")
+    void getStudentsByIds_returnsRequestOrderAndMissingIds() throws Throwable {
+        Student first = studentRepository.save(new Student("Batch", "One", "batch.one@example.com", LocalDate.of(2000, 1, 1)));
+        Student second = studentRepository.save(new Student("Batch", "Two", "batch.two@example.com", LocalDate.of(2000, 1, 2)));
+        long missing = second.getId() + 1000;
+
+        queryBudget().selects(1).verify(() -> mockMvc.perform(get("/api/v1/students/batch")
+                .param("ids", second.getId() + "," + missing + "," + first.getId() + "," + second.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.students", hasSize(2)))
+            .andExpect(jsonPath("$.students[0].id").value(second.getId()))
+            .andExpect(jsonPath("$.students[1].id").value(first.getId()))
+            .andExpect(jsonPath("$.missingIds", hasSize(1)))
+            .andExpect(jsonPath("$.missingIds[0]").value(missing)));
+    }
+
+    @Test
+    @DisplayName("DELETE /students/batch removes existing students with one id lookup and one DELETE")
+    void deleteStudents_deletesInOneStatement() throws Throwable {
+        Student first = studentRepository.save(new Student("Bulk", "One", "bulk.one@example.com", LocalDate.of(2000, 1, 1)));
+        Student second = studentRepository.save(new Student("Bulk", "Two", "bulk.two@example.com", LocalDate.of(2000, 1, 2)));
+        Student kept = studentRepository.save(new Student("Bulk", "Kept", "bulk.kept@example.com", LocalDate.of(2000, 1, 3)));
+        long missing = kept.getId() + 1000;
+
+        queryBudget().selects(1).deletes(1).verify(() -> mockMvc.perform(delete("/api/v1/students/batch")
+                .param("ids", first.getId() + "," + missing + "," + second.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.deletedIds", hasSize(2)))
+            .andExpect(jsonPath("$.deletedIds[0]").value(first.getId()))
+            .andExpect(jsonPath("$.deletedIds[1]").value(second.getId()))
+            .andExpect(jsonPath("$.missingIds[0]").value(missing)));
+
+        mockMvc.perform(get("/api/v1/students/{id}", first.getId()))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/students/{id}", kept.getId()))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Batch endpoints reject an empty id list and more ids than allowed")
+    void batchEndpoints_rejectMissingOrTooManyIds() throws Exception {
+        mockMvc.perform(get("/api/v1/students/batch"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("At least one student id must be provided."));
+
+        String tooMany = String.join(",", IntStream.rangeClosed(1, 101).mapToObj(String::valueOf).toList());
+        mockMvc.perform(delete("/api/v1/students/batch").param("ids", tooMany))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("At most 100 student ids can be requested at once."));
+    }
+
+    @Test
+    @DisplayName("POST /students returns 409 for a known duplicate email without touching the database")
+    void createStudent_duplicateEmailIsRejectedFromIndex() throws Throwable {
+        StudentPayload payload = new StudentPayload("First", "Owner", "dup@example.com", LocalDate.of(2000, 1, 1));
+        mockMvc.perform(post("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(payload)))
+            .andExpect(status().isCreated());
+
+        StudentPayload duplicate = new StudentPayload("Second", "Owner", "dup@example.com", LocalDate.of(2001, 1, 1));
+        queryBudget().verify(() -> mockMvc.perform(post("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(duplicate)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.status").value(409))
+            .andExpect(jsonPath("$.message").value("Email is already in use."))
+            .andExpect(jsonPath("$.errors[0].field").value("email"))
+            .andExpect(jsonPath("$.errors[0].rejectedValue").value("dup@example.com")));
+    }
+
+    @Test
+    @DisplayName("PUT /students/{id} returns 409 when the email belongs to another student, 200 when it is its own")
+    void updateStudent_duplicateEmailIsRejected() throws Exception {
+        Student first = studentRepository.save(new Student("Ha", "Ngo", "ha.ngo@example.com", LocalDate.of(2000, 1, 1)));
+        Student second = studentRepository.save(new Student("Khoa", "Ly", "khoa.ly@example.com", LocalDate.of(2000, 1, 1)));
+        studentEmailIndex.rebuild();
+
+        mockMvc.perform(put("/api/v1/students/{id}", second.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new StudentPayload("Khoa", "Ly", first.getEmail(), LocalDate.of(2000, 1, 1)))))
+            .andExpect(status().isConflict());
+
+        mockMvc.perform(put("/api/v1/students/{id}", first.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new StudentPayload("Ha Updated", "Ngo", first.getEmail(), LocalDate.of(2000, 1, 1)))))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("POST /students falls back to the unique constraint for duplicates the index has not seen")
+    void createStudent_duplicateEmailMissedByIndexStillReturnsConflict() throws Exception {
+        studentRepository.save(new Student("Hidden", "Owner", "hidden@example.com", LocalDate.of(2000, 1, 1)));
+
+        mockMvc.perform(post("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new StudentPayload("Late", "Comer", "hidden@example.com", LocalDate.of(2000, 1, 1)))))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.message").value("Email is already in use."))
+            .andExpect(jsonPath("$.errors[0].field").value("email"));
+    }
+
+    @Test
+    @DisplayName("PATCH /students/{id} updates only the given fields with a single UPDATE")
+    void patchStudent_updatesGivenFieldsOnly() throws Throwable {
+        Student saved = studentRepository.save(new Student("Lan", "Pham", "lan.pham@example.com", LocalDate.of(1999, 9, 9)));
+
+        queryBudget().updates(1).verify(() -> mockMvc.perform(patch("/api/v1/students/{id}", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"lastName\": \" Pham Thi \", \"email\": \"lan.pt@example.com\"}"))
+            .andExpect(status().isNoContent()));
+
+        mockMvc.perform(get("/api/v1/students/{id}", saved.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.firstName").value("Lan"))
+            .andExpect(jsonPath("$.lastName").value("Pham Thi"))
+            .andExpect(jsonPath("$.email").value("lan.pt@example.com"))
+            .andExpect(jsonPath("$.dateOfBirth").value("1999-09-09"))
+            .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    @DisplayName("PATCH /students/{id} returns 404 when no row was updated")
+    void patchStudent_returnsNotFoundForMissing() throws Exception {
+        mockMvc.perform(patch("/api/v1/students/{id}", 9999L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\": \"Ghost\"}"))
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("Student not found with id: 9999"));
+    }
+
+    @Test
+    @DisplayName("PATCH /students/{id} validates provided fields and rejects an empty patch")
+    void patchStudent_rejectsInvalidOrEmptyPayload() throws Exception {
+        Student saved = studentRepository.save(new Student("Tuan", "Dang", "tuan.dang@example.com", LocalDate.of(1998, 1, 1)));
+
+        mockMvc.perform(patch("/api/v1/students/{id}", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"firstName\": \"  \"}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[0].field").value("firstName"));
+
+        mockMvc.perform(patch("/api/v1/students/{id}", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\": \"not-an-email\"}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.errors[*].field", hasItem("email")));
+
+        mockMvc.perform(patch("/api/v1/students/{id}", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("At least one field must be provided."));
+    }
+
     @Test
     @DisplayName("POST /students returns 400 with validation errors for invalid payload")
     void createStudent_returnsBadRequestForInvalidData() throws Exception {
@@ -358,6 +861,92 @@ class StudentControllerIntegrationTest {
             .andExpect(jsonPath("$.timestamp").exists());
     }
 
+    @Test
+    @DisplayName("PUT /students/{id} returns 409 when another update commits between its read and its write")
+    void updateStudent_concurrentUpdateReturnsConflict() throws Exception {
+        Student saved = studentRepository.save(new Student("Vy", "Tran", "vy.tran@example.com", LocalDate.of(2000, 1, 1)));
+        StudentPayload first = new StudentPayload("Vy", "First", "vy.tran@example.com", LocalDate.of(2000, 1, 1));
+        StudentPayload second = new StudentPayload("Vy", "Second", "vy.tran@example.com", LocalDate.of(2000, 1, 1));
+
+        // The first PUT has loaded the student when it saves; the second one runs to completion on
+        // another thread, in its own transaction, before that save goes through.
+        Answer<?> realMethod = mockingDetails(studentRepository).getMockCreationSettings().getDefaultAnswer();
+        AtomicBoolean interleaved = new AtomicBoolean();
+        doAnswer(invocation -> {
+            if (interleaved.compareAndSet(false, true)) {
+                CompletableFuture.runAsync(() -> {
+                    try {
+                        mockMvc.perform(put("/api/v1/students/{id}", saved.getId())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(second)))
+                            .andExpect(status().isOk());
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }).join();
+            }
+            return realMethod.answer(invocation);
+        }).when(studentRepository).save(argThat((Student student) -> saved.getId().equals(student.getId())));
+
+        mockMvc.perform(put("/api/v1/students/{id}", saved.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(first)))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.status").value(409))
+            .andExpect(jsonPath("$.message").value("Student was modified by another request; reload it and try again."))
+            .andExpect(jsonPath("$.path").value("/api/v1/students/" + saved.getId()));
+
+        mockMvc.perform(get("/api/v1/students/{id}", saved.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.lastName").value("Second"))
+            .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /students after a PUT lists the update even while an older list query is in flight")
+    void getStudents_afterUpdateDoesNotJoinAnOlderListQuery() throws Exception {
+        Student saved = studentRepository.save(new Student("Lan", "Before", "lan.before@example.com", LocalDate.of(2000, 1, 1)));
+        StudentPayload update = new StudentPayload("Lan", "After", "lan.before@example.com", LocalDate.of(2000, 1, 1));
+
+        // The first list request has read its rows when the PUT commits; a second list request made
+        // after the PUT must not be handed those rows, and neither may any later one.
+        Answer<?> realMethod = mockingDetails(studentRepository).getMockCreationSettings().getDefaultAnswer();
+        AtomicBoolean interleaved = new AtomicBoolean();
+        AtomicReference<CompletableFuture<MvcResult>> afterWrite = new AtomicReference<>();
+        doAnswer(invocation -> {
+            Object rows = realMethod.answer(invocation);
+            if (interleaved.compareAndSet(false, true)) {
+                mockMvc.perform(put("/api/v1/students/{id}", saved.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                    .andExpect(status().isOk());
+                afterWrite.set(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return mockMvc.perform(get("/api/v1/students")).andReturn();
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }));
+                try {
+                    afterWrite.get().get(2, TimeUnit.SECONDS);
+                } catch (TimeoutException ex) {
+                    // Joined this query instead of running its own; the assertion below fails.
+                }
+            }
+            return rows;
+        }).when(studentRepository).findViewPageBy(any(Pageable.class));
+
+        mockMvc.perform(get("/api/v1/students"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].lastName").value("Before"));
+
+        MvcResult listedAfterWrite = afterWrite.get().get(5, TimeUnit.SECONDS);
+        assertEquals("After", JsonPath.read(listedAfterWrite.getResponse().getContentAsString(), "$.content[0].lastName"));
+        mockMvc.perform(get("/api/v1/students"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.content[0].lastName").value("After"));
+    }
+
     @Test
     @DisplayName("PUT /students returns 400 when date of birth is in the future")
     void updateStudent_returnsBadRequestForFutureDate() throws Exception {
@@ -389,6 +978,10 @@ class StudentControllerIntegrationTest {
             .andExpect(jsonPath("$.timestamp").exists());
     }
 
+    private String nextCursor(MvcResult result) throws Exception {
+        return JsonPath.read(result.getResponse().getContentAsString(), "$.nextCursor");
+    }
+
     private void saveStudent(String firstName, String lastName, String email, LocalDate dateOfBirth) {
         studentRepository.save(new Student(firstName, lastName, email, dateOfBirth));
     }
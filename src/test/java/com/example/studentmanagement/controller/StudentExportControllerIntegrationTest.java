@@ -0,0 +1,172 @@
+package com.example.studentmanagement.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.repository.StudentRepository;
+import com.example.studentmanagement.service.StudentExportService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudentExportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentExportService studentExportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /students/export streams one JSON document per line in id order")
+    void exportNdjson_streamsAllStudents() throws Exception {
+        List<Student> saved = seedStudents(3);
+
+        MvcResult started = mockMvc.perform(get("/api/v1/students/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertEquals(3, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            JsonNode row = objectMapper.readTree(lines.get(i));
+            assertEquals(saved.get(i).getId(), row.get("id").asLong());
+            assertEquals("student" + i + "@example.com", row.get("email").asText());
+        }
+    }
+
+    @Test
+    @DisplayName("GET /students/export?format=csv streams a header and one row per student")
+    void exportCsv_streamsAllStudents() throws Exception {
+        List<Student> saved = seedStudents(2);
+
+        MvcResult started = mockMvc.perform(get("/api/v1/students/export").param("format", "csv"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        String body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertEquals(
+            List.of(
+                "id,firstName,lastName,email,dateOfBirth",
+                saved.get(0).getId() + ",First0,Last0,student0@example.com,2000-01-01",
+                saved.get(1).getId() + ",First1,Last1,student1@example.com,2000-01-02"
+            ),
+            body.lines().toList()
+        );
+    }
+
+    @Test
+    @DisplayName("GET /students/export?format=cbor streams a CBOR sequence with one item per student")
+    void exportCbor_streamsCborSequence() throws Exception {
+        List<Student> saved = seedStudents(3);
+
+        MvcResult started = mockMvc.perform(get("/api/v1/students/export").param("format", "cbor"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        byte[] body = mockMvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("application/cbor-seq"))
+            .andReturn()
+            .getResponse()
+            .getContentAsByteArray();
+
+        List<JsonNode> rows = new CBORMapper().readerFor(JsonNode.class).<JsonNode>readValues(body).readAll();
+        assertEquals(3, rows.size());
+        assertEquals(saved.get(2).getId(), rows.get(2).get("id").asLong());
+        assertEquals("2000-01-03", rows.get(2).get("dateOfBirth").asText());
+    }
+
+    @Test
+    @DisplayName("GET /students/export rejects an unknown format")
+    void export_rejectsUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/v1/students/export").param("format", "xml"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    @DisplayName("Export stops and releases the cursor when the client goes away")
+    void export_stopsWhenOutputFails() throws Exception {
+        seedStudents(50);
+
+        assertThrows(IOException.class, () -> studentExportService.exportNdjson(new DisconnectingOutputStream(1024)));
+
+        assertEquals(50, studentExportService.exportCsv(OutputStream.nullOutputStream()));
+    }
+
+    private List<Student> seedStudents(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> studentRepository.save(new Student(
+                "First" + i,
+                "Last" + i,
+                "student" + i + "@example.com",
+                LocalDate.of(2000, 1, 1).plusDays(i)
+            )))
+            .toList();
+    }
+
+    private static final class DisconnectingOutputStream extends OutputStream {
+
+        private int remaining;
+
+        private DisconnectingOutputStream(int limit) {
+            this.remaining = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (--remaining < 0) {
+                throw new IOException("Broken pipe");
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.studentmanagement.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import com.example.studentmanagement.repository.StudentRepository;
+import com.example.studentmanagement.service.StudentEmailIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = {
+    "app.students.group-commit.enabled=true",
+    "app.students.group-commit.max-batch-size=8",
+    "app.students.group-commit.max-delay=500ms"
+})
+@AutoConfigureMockMvc
+class StudentGroupCommitIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentEmailIndex studentEmailIndex;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @BeforeEach
+    void setUp() {
+        studentRepository.deleteAll();
+        studentEmailIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        studentRepository.deleteAll();
+        studentEmailIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("Concurrent creates are written as one batch and each caller gets its own id")
+    void concurrentCreates_shareOneCommit() throws Exception {
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            emails.add("student" + i + "@example.com");
+        }
+
+        List<MockHttpServletResponse> responses = createConcurrently(emails);
+
+        Set<Long> ids = new HashSet<>();
+        for (int i = 0; i < responses.size(); i++) {
+            MockHttpServletResponse response = responses.get(i);
+            assertEquals(201, response.getStatus());
+            var body = objectMapper.readTree(response.getContentAsString());
+            assertEquals(emails.get(i), body.get("email").asText());
+            ids.add(body.get("id").asLong());
+        }
+        assertEquals(8, ids.size());
+        assertEquals(8, studentRepository.count());
+
+        DistributionSummary batchSizes = meterRegistry.get("student.group-commit.batch.size").summary();
+        assertEquals(8.0, batchSizes.max());
+    }
+
+    @Test
+    @DisplayName("A constraint violation in a batch fails only the offending create")
+    void duplicateInBatch_failsOnlyThatCaller() throws Exception {
+        List<MockHttpServletResponse> responses = createConcurrently(List.of(
+            "an@example.com",
+            "same@example.com",
+            "binh@example.com",
+            "same@example.com"
+        ));
+
+        long created = responses.stream().filter(response -> response.getStatus() == 201).count();
+        long conflicts = responses.stream().filter(response -> response.getStatus() == 409).count();
+        assertEquals(3, created);
+        assertEquals(1, conflicts);
+        assertEquals(201, responses.get(0).getStatus());
+        assertEquals(201, responses.get(2).getStatus());
+        assertEquals(3, studentRepository.count());
+        assertTrue(studentEmailIndex.isTaken("same@example.com", null));
+    }
+
+    private List<MockHttpServletResponse> createConcurrently(List<String> emails) throws Exception {
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+        for (String email : emails) {
+            Callable<MockHttpServletResponse> create = () -> mockMvc.perform(post("/api/v1/students")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("""
+                        {"firstName":"Group","lastName":"Commit","email":"%s","dateOfBirth":"2001-01-01"}
+                        """.formatted(email)))
+                .andReturn()
+                .getResponse();
+            futures.add(executor.submit(create));
+        }
+        List<MockHttpServletResponse> responses = new ArrayList<>();
+        for (Future<MockHttpServletResponse> future : futures) {
+            responses.add(future.get());
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.studentmanagement.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.studentmanagement.metrics.QueryBudget;
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.repository.StudentRepository;
+import com.example.studentmanagement.service.StudentEmailIndex;
+import java.time.LocalDate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "app.students.import.batch-size=4")
+@AutoConfigureMockMvc
+class StudentImportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentEmailIndex studentEmailIndex;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository.deleteAll();
+        studentEmailIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /students/import issues one INSERT batch per import batch, not one per row")
+    void importCsv_queryBudget() throws Throwable {
+        String csv = "firstName,lastName,email,dateOfBirth\n" + IntStream.range(0, 10)
+            .mapToObj(i -> "First" + i + ",Last" + i + ",budget" + i + "@example.com,2000-01-01")
+            .collect(Collectors.joining("\n"));
+
+        QueryBudget.expect().inserts(3).verify(() -> mockMvc.perform(post("/api/v1/students/import")
+                .contentType("text/csv")
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(10)));
+    }
+
+    @Test
+    @DisplayName("POST /students/import (CSV) persists valid rows across several batches")
+    void importCsv_persistsAllValidRows() throws Exception {
+        String csv = "firstName,lastName,email,dateOfBirth\n" + IntStream.range(0, 10)
+            .mapToObj(i -> "First" + i + ",Last" + i + ",student" + i + "@example.com,2000-01-0" + (i % 9 + 1))
+            .collect(Collectors.joining("\n"));
+
+        mockMvc.perform(post("/api/v1/students/import")
+                .contentType("text/csv")
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.received").value(10))
+            .andExpect(jsonPath("$.imported").value(10))
+            .andExpect(jsonPath("$.failed").value(0))
+            .andExpect(jsonPath("$.errors", hasSize(0)));
+
+        assertEquals(10, studentRepository.count());
+    }
+
+    @Test
+    @DisplayName("POST /students/import (CSV) reports invalid and duplicate rows individually")
+    void importCsv_reportsRowErrors() throws Exception {
+        studentRepository.save(new Student("Taken", "Email", "taken@example.com", LocalDate.of(1999, 1, 1)));
+
+        String csv = """
+            firstName,lastName,email,dateOfBirth
+            Ann,Le,ann.le@example.com,2001-02-03
+            ,Tran,missing.first@example.com,2001-02-03
+            Bao,Vo,not-an-email,2001-02-03
+            Chi,Do,chi.do@example.com,03/02/2001
+            Dung,Ho,taken@example.com,2001-02-03
+            Em,Ly,ann.le@example.com,2001-02-03
+            """;
+
+        mockMvc.perform(post("/api/v1/students/import")
+                .contentType("text/csv")
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.received").value(6))
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.failed").value(5))
+            .andExpect(jsonPath("$.errors", hasSize(5)))
+            .andExpect(jsonPath("$.errors[0].row").value(2))
+            .andExpect(jsonPath("$.errors[0].field").value("firstName"))
+            .andExpect(jsonPath("$.errors[0].message").value("First name is required."))
+            .andExpect(jsonPath("$.errors[1].row").value(3))
+            .andExpect(jsonPath("$.errors[1].message").value("Email format is invalid."))
+            .andExpect(jsonPath("$.errors[2].row").value(4))
+            .andExpect(jsonPath("$.errors[2].field").value("dateOfBirth"))
+            .andExpect(jsonPath("$.errors[3].row").value(5))
+            .andExpect(jsonPath("$.errors[3].message").value("Email is already in use."))
+            .andExpect(jsonPath("$.errors[4].row").value(6))
+            .andExpect(jsonPath("$.errors[4].field").value("email"));
+
+        assertEquals(2, studentRepository.count());
+    }
+
+    @Test
+    @DisplayName("POST /students/import publishes rows saved by the row-by-row retry with their generated ids")
+    void importCsv_rowByRowRetryPublishesGeneratedIds() throws Exception {
+        studentRepository.save(new Student("Taken", "Email", "taken@example.com", LocalDate.of(1999, 1, 1)));
+
+        String csv = """
+            firstName,lastName,email,dateOfBirth
+            Giang,Ta,giang.ta@example.com,2001-02-03
+            Dung,Ho,taken@example.com,2001-02-03
+            """;
+
+        mockMvc.perform(post("/api/v1/students/import")
+                .contentType("text/csv")
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(1))
+            .andExpect(jsonPath("$.failed").value(1));
+
+        Student imported = studentRepository.findAll().stream()
+            .filter(student -> student.getEmail().equals("giang.ta@example.com"))
+            .findFirst()
+            .orElseThrow();
+        assertTrue(studentEmailIndex.isTaken("giang.ta@example.com", null));
+        assertFalse(studentEmailIndex.isTaken("giang.ta@example.com", imported.getId()));
+    }
+
+    @Test
+    @DisplayName("POST /students/import (NDJSON) imports objects line by line and skips malformed lines")
+    void importNdjson_importsValidLines() throws Exception {
+        String ndjson = """
+            {"firstName":"Hoa","lastName":"Mai","email":"hoa.mai@example.com","dateOfBirth":"1998-08-08"}
+            {not json}
+
+            {"firstName":"Khanh","lastName":"Pham","email":"khanh.pham@example.com","dateOfBirth":"1997-07-07"}
+            """;
+
+        mockMvc.perform(post("/api/v1/students/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.received").value(3))
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.failed").value(1))
+            .andExpect(jsonPath("$.errors[0].row").value(2))
+            .andExpect(jsonPath("$.errors[0].message").value("Row could not be parsed."));
+
+        assertEquals(2, studentRepository.count());
+    }
+}
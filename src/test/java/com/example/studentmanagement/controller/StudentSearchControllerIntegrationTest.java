@@ -0,0 +1,90 @@
+package com.example.studentmanagement.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.studentmanagement.repository.StudentRepository;
+import com.example.studentmanagement.service.StudentSearchIndex;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudentSearchControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentSearchIndex studentSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository.deleteAll();
+        studentSearchIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteAll();
+        studentSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("GET /students/search follows creates and deletes made through the API")
+    void search_followsWritesThroughTheApi() throws Exception {
+        Number id = createStudent("Quynh", "Vu", "quynh.vu@example.com");
+        createStudent("Quang", "Ho", "quang.ho@example.com");
+
+        mockMvc.perform(get("/api/v1/students/search").param("q", "qu"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(2)))
+            .andExpect(jsonPath("$[0].firstName").value("Quang"))
+            .andExpect(jsonPath("$[1].firstName").value("Quynh"))
+            .andExpect(jsonPath("$[1].terms").doesNotExist());
+
+        mockMvc.perform(delete("/api/v1/students/{id}", id))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/v1/students/search").param("q", "quy"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("GET /students/search rejects a blank query")
+    void search_rejectsBlankQuery() throws Exception {
+        mockMvc.perform(get("/api/v1/students/search").param("q", " "))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("Search query must not be blank."));
+    }
+
+    private Number createStudent(String firstName, String lastName, String email) throws Exception {
+        String body = """
+            {"firstName":"%s","lastName":"%s","email":"%s","dateOfBirth":"2000-01-01"}
+            """.formatted(firstName, lastName, email);
+        String response = mockMvc.perform(post("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        return JsonPath.read(response, "$.id");
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.studentmanagement.controller;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.studentmanagement.metrics.QueryBudget;
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.repository.StudentRepository;
+import com.example.studentmanagement.service.StudentEmailIndex;
+import com.example.studentmanagement.service.StudentStatistics;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class StudentStatisticsControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentEmailIndex studentEmailIndex;
+
+    @Autowired
+    private StudentStatistics studentStatistics;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository.deleteAll();
+        studentEmailIndex.rebuild();
+        studentStatistics.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteAll();
+        studentEmailIndex.rebuild();
+        studentStatistics.rebuild();
+    }
+
+    @Test
+    @DisplayName("GET /students/stats serves counters kept up to date by API writes, without SQL")
+    void statistics_followWritesWithoutSql() throws Throwable {
+        createStudent("hoa@gmail.com", "2002-02-02");
+        createStudent("ich@gmail.com", "2002-12-12");
+        createStudent("kim@hcmus.edu.vn", "2000-01-01");
+
+        QueryBudget.expect().verify(() -> mockMvc.perform(get("/api/v1/students/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(3))
+            .andExpect(jsonPath("$.byBirthYear.2002").value(2))
+            .andExpect(jsonPath("$.byBirthYear.2000").value(1))
+            .andExpect(jsonPath("$.byEmailDomain['gmail.com']").value(2))
+            .andExpect(jsonPath("$.byEmailDomain['hcmus.edu.vn']").value(1)));
+
+        assertFalse(studentStatistics.reconcile());
+    }
+
+    @Test
+    @DisplayName("Reconciliation detects writes that bypassed the service and repairs the counters")
+    void reconcile_repairsDrift() throws Exception {
+        createStudent("hoa@gmail.com", "2002-02-02");
+        studentRepository.save(new Student("Lan", "Vo", "lan@yahoo.com", LocalDate.of(1995, 5, 5)));
+
+        assertTrue(studentStatistics.reconcile());
+
+        mockMvc.perform(get("/api/v1/students/stats").param("domains", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(2))
+            .andExpect(jsonPath("$.byBirthYear.1995").value(1))
+            .andExpect(jsonPath("$.byEmailDomain['gmail.com']").value(1))
+            .andExpect(jsonPath("$.byEmailDomain['yahoo.com']").doesNotExist());
+    }
+
+    private void createStudent(String email, String dateOfBirth) throws Exception {
+        String body = """
+            {"firstName":"An","lastName":"Le","email":"%s","dateOfBirth":"%s"}
+            """.formatted(email, dateOfBirth);
+        mockMvc.perform(post("/api/v1/students")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated());
+    }
+}
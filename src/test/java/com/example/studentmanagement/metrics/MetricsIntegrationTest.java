@@ -0,0 +1,71 @@
+package com.example.studentmanagement.metrics;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.repository.StudentRepository;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @BeforeEach
+    void setUp() {
+        studentRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Prometheus scrape exposes endpoint, service, query and pool metrics")
+    void prometheus_exposesApiMetrics() throws Exception {
+        Student saved = studentRepository.save(new Student("Minh", "Ho", "minh.ho@example.com", LocalDate.of(2000, 1, 1)));
+        mockMvc.perform(get("/api/v1/students/{id}", saved.getId()))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+            .andExpect(content().string(containsString("uri=\"/api/v1/students/{id}\"")))
+            .andExpect(content().string(containsString("student_service_seconds_bucket{")))
+            .andExpect(content().string(containsString("method=\"getStudentById\"")))
+            .andExpect(content().string(containsString("db_query_seconds_count{")))
+            .andExpect(content().string(containsString("http_server_requests_db_queries_count{")))
+            .andExpect(content().string(containsString("hikaricp_connections_acquire_seconds_bucket{")));
+    }
+
+    @Test
+    @DisplayName("QueryCounter counts the statements run inside a scope")
+    void queryCounter_countsStatementsInScope() {
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            studentRepository.count();
+            studentRepository.findAll();
+
+            assertEquals(2, scope.count(QueryType.SELECT));
+        }
+    }
+}
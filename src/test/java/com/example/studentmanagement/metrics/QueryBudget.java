@@ -0,0 +1,85 @@
+package com.example.studentmanagement.metrics;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.EnumMap;
+import java.util.Map;
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+/**
+ * Exact SQL statement budgets for tests.
+ *
+ * <pre>{@code
+ * QueryBudget.expect().selects(1).deletes(1).verify(() -> mockMvc.perform(delete(...)));
+ * }</pre>
+ *
+ * <p>SELECT, INSERT, UPDATE and DELETE counts that are not set are expected to be zero, so a new
+ * lookup or an N+1 loop fails the test. Id-sequence fetches are ignored because they depend on how
+ * many ids earlier tests consumed from the pooled generator.
+ *
+ * <p>{@link #unchecked()} runs the action without counting, for tests shared with a store that
+ * issues no SQL.
+ */
+public final class QueryBudget {
+
+    private static final QueryType[] CHECKED = {QueryType.SELECT, QueryType.INSERT, QueryType.UPDATE, QueryType.DELETE};
+
+    private final Map<QueryType, Integer> expected = new EnumMap<>(QueryType.class);
+    private final boolean checked;
+
+    private QueryBudget(boolean checked) {
+        this.checked = checked;
+        for (QueryType type : CHECKED) {
+            expected.put(type, 0);
+        }
+    }
+
+    public static QueryBudget expect() {
+        return new QueryBudget(true);
+    }
+
+    /**
+     * A budget that accepts any statement counts.
+     */
+    public static QueryBudget unchecked() {
+        return new QueryBudget(false);
+    }
+
+    public QueryBudget selects(int count) {
+        expected.put(QueryType.SELECT, count);
+        return this;
+    }
+
+    public QueryBudget inserts(int count) {
+        expected.put(QueryType.INSERT, count);
+        return this;
+    }
+
+    public QueryBudget updates(int count) {
+        expected.put(QueryType.UPDATE, count);
+        return this;
+    }
+
+    public QueryBudget deletes(int count) {
+        expected.put(QueryType.DELETE, count);
+        return this;
+    }
+
+    public <T> T verify(ThrowingSupplier<T> action) throws Throwable {
+        if (!checked) {
+            return action.get();
+        }
+        T result;
+        Map<QueryType, Integer> actual = new EnumMap<>(QueryType.class);
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            result = action.get();
+            for (QueryType type : CHECKED) {
+                actual.put(type, scope.count(type));
+            }
+        }
+        if (!actual.equals(expected)) {
+            fail("SQL statement budget exceeded or changed: expected " + expected + " but was " + actual);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.studentmanagement.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.studentmanagement.config.StudentLogStorageProperties;
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentPatch;
+import com.example.studentmanagement.model.StudentView;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.util.unit.DataSize;
+
+class LogStructuredStudentRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    private LogStructuredStudentRepository repository;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        repository = open(DataSize.ofMegabytes(64));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        repository.close();
+    }
+
+    @Test
+    void save_assignsIdsAndBumpsVersionOnlyOnChange() {
+        Student student = repository.save(student("Anna", "anna@example.com"));
+        assertEquals(1L, student.getId());
+        assertEquals(0L, student.getVersion());
+
+        student.setLastName("Tran");
+        assertEquals(1L, repository.save(student).getVersion());
+        assertEquals(1L, repository.save(student).getVersion());
+        assertEquals("Tran", repository.findById(1L).orElseThrow().getLastName());
+    }
+
+    @Test
+    void save_rejectsDuplicateEmailAndStaleVersion() {
+        Student first = repository.save(student("Anna", "anna@example.com"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> repository.save(student("Other", "anna@example.com")));
+        assertThrows(DataIntegrityViolationException.class, () -> repository.saveAll(List.of(
+            student("Binh", "binh@example.com"),
+            student("Binh", "binh@example.com")
+        )));
+        assertEquals(1, repository.count());
+
+        Student stale = repository.findById(first.getId()).orElseThrow();
+        first.setFirstName("Anne");
+        repository.save(first);
+        stale.setFirstName("Ann");
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> repository.save(stale));
+    }
+
+    @Test
+    void emailIsReleasedByUpdateAndDelete() {
+        Student anna = repository.save(student("Anna", "anna@example.com"));
+        Student binh = repository.save(student("Binh", "binh@example.com"));
+
+        assertEquals(1, repository.patch(anna.getId(), new StudentPatch(null, null, "anna.tran@example.com", null)));
+        repository.save(student("New", "anna@example.com"));
+        repository.deleteAllByIdInBatch(List.of(binh.getId(), 999L));
+        repository.save(student("Newer", "binh@example.com"));
+
+        assertEquals(0, repository.patch(999L, new StudentPatch("X", null, null, null)));
+        assertEquals(List.of(1L), repository.findExistingIds(List.of(1L, 2L, 999L)));
+        assertEquals(3, repository.count());
+    }
+
+    @Test
+    void findBy_walksKeysetPagesInSortOrder() {
+        Stream.of("C", "A", "B", "A", "D").forEach(name -> repository.save(student(name, name.toLowerCase() + repository.count() + "@example.com")));
+        Sort sort = Sort.by("firstName");
+
+        Window<Student> first = repository.findBy(ScrollPosition.keyset(), sort, Limit.of(2));
+        assertEquals(List.of(2L, 4L), first.map(Student::getId).getContent());
+        assertTrue(first.hasNext());
+
+        Window<Student> second = repository.findBy(first.positionAt(1), sort, Limit.of(2));
+        assertEquals(List.of(3L, 1L), second.map(Student::getId).getContent());
+
+        Window<Student> last = repository.findBy(second.positionAt(1), sort, Limit.of(2));
+        assertEquals(List.of(5L), last.map(Student::getId).getContent());
+        assertFalse(last.hasNext());
+
+        assertEquals(
+            List.of("D", "C"),
+            repository.findViewPageBy(PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "firstName")))
+                .map(StudentView::firstName)
+                .getContent()
+        );
+    }
+
+    @Test
+    void findBy_seeksByIdInBothDirections() {
+        for (int i = 1; i <= 7; i++) {
+            repository.save(student("S" + i, "s" + i + "@example.com"));
+        }
+        repository.deleteById(4L);
+
+        Window<Student> ascending = repository.findBy(ScrollPosition.forward(Map.of("id", 2L)), Sort.by("id"), Limit.of(3));
+        assertEquals(List.of(3L, 5L, 6L), ascending.map(Student::getId).getContent());
+        assertTrue(ascending.hasNext());
+
+        Window<Student> descending = repository.findBy(ScrollPosition.forward(Map.of("id", 6L)), Sort.by(Sort.Direction.DESC, "id"), Limit.of(3));
+        assertEquals(List.of(5L, 3L, 2L), descending.map(Student::getId).getContent());
+        assertTrue(descending.hasNext());
+
+        Window<Student> backward = repository.findBy(ScrollPosition.backward(Map.of("id", 6L)), Sort.by("id"), Limit.of(2));
+        assertEquals(List.of(3L, 5L), backward.map(Student::getId).getContent());
+        assertTrue(backward.hasNext());
+
+        Window<Student> last = repository.findBy(ascending.positionAt(2), Sort.by("id"), Limit.of(3));
+        assertEquals(List.of(7L), last.map(Student::getId).getContent());
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    void findByExample_matchesLikeTheJpaRepository() {
+        repository.save(student("Anna", "anna@example.com"));
+        repository.save(student("Binh", "binh@school.edu"));
+        repository.save(student("Chi", "chi@example.com"));
+
+        Student byDomain = new Student(null, null, "@EXAMPLE.com", null);
+        ExampleMatcher endingIgnoringCase = ExampleMatcher.matching()
+            .withMatcher("email", matcher -> matcher.endsWith().ignoreCase());
+        Example<Student> example = Example.of(byDomain, endingIgnoringCase);
+
+        assertEquals(
+            List.of("Chi", "Anna"),
+            repository.findAll(example, Sort.by(Sort.Direction.DESC, "firstName")).stream().map(Student::getFirstName).toList()
+        );
+        assertEquals(2, repository.count(example));
+        assertEquals(2, repository.findAll(example, PageRequest.of(1, 1)).getTotalElements());
+        assertEquals(List.of("Chi"), repository.findAll(example, PageRequest.of(1, 1)).map(Student::getFirstName).getContent());
+        assertEquals(
+            List.of("anna@example.com"),
+            repository.findBy(example, query -> query.as(StudentView.class).limit(1).all()).stream().map(StudentView::email).toList()
+        );
+
+        Student binh = new Student("Binh", null, null, null);
+        assertEquals("binh@school.edu", repository.findOne(Example.of(binh)).orElseThrow().getEmail());
+        assertThrows(IncorrectResultSizeDataAccessException.class, () -> repository.findOne(example));
+
+        Student nobody = new Student("Dung", null, null, null);
+        assertFalse(repository.exists(Example.of(nobody)));
+        assertTrue(repository.exists(Example.of(nobody, ExampleMatcher.matchingAny().withIgnorePaths("firstName"))));
+    }
+
+    @Test
+    void reopen_replaysTheLog() throws IOException {
+        repository.save(student("Anna", "anna@example.com"));
+        Student binh = repository.save(student("Binh", "binh@example.com"));
+        repository.patch(binh.getId(), new StudentPatch("Bao", null, null, null));
+        repository.save(student("Chi", "chi@example.com"));
+        repository.deleteById(1L);
+        repository.close();
+
+        repository = open(DataSize.ofMegabytes(64));
+
+        assertEquals(2, repository.count());
+        assertEquals("Bao", repository.findById(binh.getId()).orElseThrow().getFirstName());
+        assertEquals(1L, repository.findById(binh.getId()).orElseThrow().getVersion());
+        assertEquals(4L, repository.save(student("Dung", "dung@example.com")).getId());
+        assertThrows(DataIntegrityViolationException.class, () -> repository.save(student("Copy", "chi@example.com")));
+    }
+
+    @Test
+    void snapshot_compactsTheLogAndIsRecovered() throws IOException {
+        repository.close();
+        repository = open(DataSize.ofBytes(512));
+        for (int i = 0; i < 20; i++) {
+            repository.save(student("S" + i, "s" + i + "@example.com"));
+        }
+        repository.deleteAllByIdInBatch(List.of(1L, 2L));
+        repository.close();
+
+        assertTrue(Files.exists(directory.resolve("students.snapshot")));
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.filter(path -> path.toString().endsWith(".log")).count() <= 1);
+        }
+
+        repository = open(DataSize.ofMegabytes(64));
+        assertEquals(18, repository.count());
+        assertFalse(repository.existsById(1L));
+        assertEquals(21L, repository.save(student("Next", "next@example.com")).getId());
+    }
+
+    @Test
+    void recovery_dropsATornLastRecord() throws IOException {
+        repository.save(student("Anna", "anna@example.com"));
+        repository.save(student("Binh", "binh@example.com"));
+        repository.close();
+
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            segment = files.filter(path -> path.toString().endsWith(".log")).findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.READ)) {
+            long secondRecordEnd = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).getInt(0) + 8L;
+            channel.write(ByteBuffer.wrap(new byte[] {0x7f}), secondRecordEnd + 20);
+        }
+
+        repository = open(DataSize.ofMegabytes(64));
+        assertEquals(List.of(1L), repository.findAll().stream().map(Student::getId).toList());
+    }
+
+    private LogStructuredStudentRepository open(DataSize snapshotThreshold) throws IOException {
+        return new LogStructuredStudentRepository(new StudentLogStorageProperties(
+            directory,
+            DataSize.ofKilobytes(4),
+            snapshotThreshold,
+            Duration.ofMinutes(5),
+            false
+        ));
+    }
+
+    private static Student student(String firstName, String email) {
+        return new Student(firstName, "Nguyen", email, LocalDate.of(2000, 1, 1));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.studentmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentPatch;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StudentAnalyticsReplicaTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 15);
+
+    private StudentAnalyticsReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        replica = new StudentAnalyticsReplica(null);
+        replica.onStudentChanged(created(1L, "an@hcmus.edu.vn", LocalDate.of(2004, 6, 15)));
+        replica.onStudentChanged(created(2L, "binh@gmail.com", LocalDate.of(2004, 6, 16)));
+        replica.onStudentChanged(created(3L, "chi@GMAIL.com", LocalDate.of(1999, 1, 1)));
+        replica.onStudentChanged(created(4L, "dung@hust.edu.vn", LocalDate.of(1999, 12, 31)));
+    }
+
+    @Test
+    void countByBirthYear_groupsByCalendarYear() {
+        assertEquals(
+            List.of(new StudentAnalyticsReplica.YearCount(1999, 2), new StudentAnalyticsReplica.YearCount(2004, 2)),
+            replica.countByBirthYear()
+        );
+    }
+
+    @Test
+    void ageDistribution_countsCompletedYears() {
+        assertEquals(
+            List.of(new StudentAnalyticsReplica.AgeBand(19, 19, 1), new StudentAnalyticsReplica.AgeBand(20, 20, 1),
+                new StudentAnalyticsReplica.AgeBand(21, 21, 0), new StudentAnalyticsReplica.AgeBand(22, 22, 0),
+                new StudentAnalyticsReplica.AgeBand(23, 23, 0), new StudentAnalyticsReplica.AgeBand(24, 24, 1),
+                new StudentAnalyticsReplica.AgeBand(25, 25, 1)),
+            replica.ageDistribution(1, TODAY)
+        );
+        assertEquals(
+            List.of(new StudentAnalyticsReplica.AgeBand(15, 19, 1), new StudentAnalyticsReplica.AgeBand(20, 24, 2),
+                new StudentAnalyticsReplica.AgeBand(25, 29, 1)),
+            replica.ageDistribution(5, TODAY)
+        );
+    }
+
+    @Test
+    void topEmailDomains_ranksByCountIgnoringCase() {
+        assertEquals(
+            List.of(new StudentAnalyticsReplica.DomainCount("gmail.com", 2), new StudentAnalyticsReplica.DomainCount("hcmus.edu.vn", 1)),
+            replica.topEmailDomains(2)
+        );
+    }
+
+    @Test
+    void onStudentChanged_followsPartialUpdatesAndDeletes() {
+        replica.onStudentChanged(StudentChangedEvent.patched(1L, new StudentPatch("An", null, "an@gmail.com", null)));
+        replica.onStudentChanged(StudentChangedEvent.deleted(3L));
+        replica.onStudentChanged(StudentChangedEvent.deleted(3L));
+
+        assertEquals(3, replica.size());
+        assertEquals(List.of(new StudentAnalyticsReplica.DomainCount("gmail.com", 2)), replica.topEmailDomains(1));
+        assertEquals(
+            List.of(new StudentAnalyticsReplica.YearCount(1999, 1), new StudentAnalyticsReplica.YearCount(2004, 2)),
+            replica.countByBirthYear()
+        );
+    }
+
+    @Test
+    void largeReplicas_areScannedInParallelChunksWithTheSameResult() {
+        replica = new StudentAnalyticsReplica(null);
+        int students = 200_000;
+        for (long id = 1; id <= students; id++) {
+            replica.onStudentChanged(created(id, "s" + id + "@d" + (id % 7) + ".vn", LocalDate.of(1990 + (int) (id % 10), 3, 1)));
+        }
+
+        List<StudentAnalyticsReplica.YearCount> years = replica.countByBirthYear();
+        assertEquals(10, years.size());
+        assertEquals(students, years.stream().mapToLong(StudentAnalyticsReplica.YearCount::count).sum());
+        assertEquals(students / 10, years.get(0).count());
+        assertEquals(students, replica.ageDistribution(10, TODAY).stream().mapToLong(StudentAnalyticsReplica.AgeBand::count).sum());
+        assertEquals(new StudentAnalyticsReplica.DomainCount("d1.vn", 28_572), replica.topEmailDomains(1).get(0));
+    }
+
+    private static StudentChangedEvent created(Long id, String email, LocalDate dateOfBirth) {
+        Student student = new Student("First", "Last", email, dateOfBirth);
+        student.setId(id);
+        return StudentChangedEvent.created(student);
+    }
+}
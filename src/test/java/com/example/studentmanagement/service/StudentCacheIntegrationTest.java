@@ -0,0 +1,113 @@
+package com.example.studentmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.repository.StudentRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+@SpringBootTest(properties = {
+    "app.students.cache.warm-up.enabled=true",
+    "app.students.cache.warm-up.file=target/test-cache/hot-student-ids.txt"
+})
+class StudentCacheIntegrationTest {
+
+    private static final Path WARM_UP_FILE = Path.of("target/test-cache/hot-student-ids.txt");
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private StudentCache studentCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        studentRepository.deleteAll();
+        nativeCache().invalidateAll();
+        Files.deleteIfExists(WARM_UP_FILE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        studentRepository.deleteAll();
+        nativeCache().invalidateAll();
+    }
+
+    @Test
+    void getStudentById_secondCallIsServedFromCache() {
+        Student saved = studentRepository.save(student("cache.hit@example.com"));
+        CacheStats before = nativeCache().stats();
+
+        studentService.getStudentById(saved.getId());
+        studentService.getStudentById(saved.getId());
+
+        CacheStats delta = nativeCache().stats().minus(before);
+        assertEquals(1, delta.missCount());
+        assertEquals(1, delta.hitCount());
+    }
+
+    @Test
+    void updateStudent_evictsCachedEntryAfterCommit() {
+        Student saved = studentRepository.save(student("cache.before@example.com"));
+        studentService.getStudentById(saved.getId());
+
+        studentService.updateStudent(saved.getId(), student("cache.after@example.com"));
+
+        assertNull(nativeCache().getIfPresent(saved.getId()));
+        assertEquals("cache.after@example.com", studentService.getStudentById(saved.getId()).getEmail());
+    }
+
+    @Test
+    void get_doesNotCacheRowLoadedBeforeAConcurrentCommit() {
+        Student saved = studentRepository.save(student("cache.race@example.com"));
+
+        Student loaded = studentCache.get(saved.getId(), generation -> {
+            Student stale = studentRepository.findById(saved.getId()).orElseThrow();
+            studentService.updateStudent(saved.getId(), student("cache.race.updated@example.com"));
+            return stale;
+        });
+
+        assertEquals("cache.race@example.com", loaded.getEmail());
+        assertNull(nativeCache().getIfPresent(saved.getId()));
+        assertEquals("cache.race.updated@example.com", studentService.getStudentById(saved.getId()).getEmail());
+    }
+
+    @Test
+    void warmUp_reloadsIdsSavedOnShutdown() throws Exception {
+        Student saved = studentRepository.save(student("cache.warm@example.com"));
+        studentService.getStudentById(saved.getId());
+
+        studentCache.saveHottestIds();
+        nativeCache().invalidateAll();
+        studentCache.warmUp();
+
+        assertEquals(String.valueOf(saved.getId()), Files.readAllLines(WARM_UP_FILE).get(0));
+        assertNotNull(nativeCache().getIfPresent(saved.getId()));
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Object> nativeCache() {
+        return ((CaffeineCache) cacheManager.getCache(StudentCache.NAME)).getNativeCache();
+    }
+
+    private static Student student(String email) {
+        return new Student("Cache", "Student", email, LocalDate.of(2000, 1, 1));
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.studentmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+
+import com.example.studentmanagement.config.StudentGroupCommitProperties;
+import com.example.studentmanagement.model.Student;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class StudentGroupCommitterTest {
+
+    private static final StudentGroupCommitProperties PROPERTIES = new StudentGroupCommitProperties(true, 8, Duration.ZERO);
+
+    private final StudentBatchWriter batchWriter = mock(StudentBatchWriter.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void create_failsOnceShutDown() throws Exception {
+        StudentGroupCommitter committer = new StudentGroupCommitter(batchWriter, PROPERTIES, meterRegistry);
+        committer.afterPropertiesSet();
+        committer.destroy();
+
+        assertThrows(IllegalStateException.class, () -> committer.create(student()));
+    }
+
+    @Test
+    void create_failsWhenShutDownBetweenCheckAndEnqueue() {
+        AtomicReference<StudentGroupCommitter> committer = new AtomicReference<>();
+        BlockingQueue<StudentGroupCommitter.PendingCreate> queue = new LinkedBlockingQueue<>() {
+            @Override
+            public boolean add(StudentGroupCommitter.PendingCreate pending) {
+                try {
+                    // The flusher has stopped and the queue has been drained by the time this lands.
+                    committer.get().destroy();
+                } catch (InterruptedException ex) {
+                    throw new IllegalStateException(ex);
+                }
+                return super.add(pending);
+            }
+        };
+        committer.set(new StudentGroupCommitter(batchWriter, PROPERTIES, meterRegistry, queue));
+        committer.get().afterPropertiesSet();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertThrows(IllegalStateException.class, () -> committer.get().create(student()));
+        });
+        assertEquals(0, queue.size());
+    }
+
+    private static Student student() {
+        return new Student("Group", "Commit", "group@example.com", LocalDate.of(2000, 1, 1));
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.studentmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.studentmanagement.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+class StudentReadCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StudentReadCoalescer coalescer = new StudentReadCoalescer(meterRegistry);
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void byId_concurrentCallersShareOneQuery() throws Exception {
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        Object row = new Object();
+
+        List<Future<Object>> results = callConcurrently(() -> coalescer.byId(7L, 0L, () -> {
+            queries.incrementAndGet();
+            await(release);
+            return row;
+        }));
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            assertSame(row, result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, queries.get());
+        assertEquals(1.0, count("by-id", "executed"));
+        assertEquals(CALLERS - 1, count("by-id", "coalesced"));
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    void byId_followersSeeTheLeadersException() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<Object>> results = callConcurrently(() -> {
+            try {
+                return coalescer.byId(7L, 0L, () -> {
+                    await(release);
+                    throw new ResourceNotFoundException("Student", "id", 7L);
+                });
+            } catch (ResourceNotFoundException ex) {
+                return ex;
+            }
+        });
+        release.countDown();
+
+        for (Future<Object> result : results) {
+            assertEquals(ResourceNotFoundException.class, result.get(5, TimeUnit.SECONDS).getClass());
+        }
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    @Test
+    void byId_callerWithNewerGenerationDoesNotJoinOlderFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> beforeWrite = executor.submit(() -> coalescer.byId(7L, 0L, () -> {
+            await(release);
+            return "before write";
+        }));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("by-id", "executed") < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        Object afterWrite = coalescer.byId(7L, 1L, () -> "after write");
+        release.countDown();
+
+        assertEquals("after write", afterWrite);
+        assertEquals("before write", beforeWrite.get(5, TimeUnit.SECONDS));
+        assertEquals(2.0, count("by-id", "executed"));
+        assertEquals(0.0, count("by-id", "coalesced"));
+    }
+
+    @Test
+    void page_callerWithNewerGenerationDoesNotJoinOlderFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Object> beforeWrite = executor.submit(() -> coalescer.page(0, 20, Sort.by("id"), 0L, () -> {
+            await(release);
+            return "before write";
+        }));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("page", "executed") < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+
+        Object afterWrite = coalescer.page(0, 20, Sort.by("id"), 1L, () -> "after write");
+        release.countDown();
+
+        assertEquals("after write", afterWrite);
+        assertEquals("before write", beforeWrite.get(5, TimeUnit.SECONDS));
+        assertEquals(2.0, count("page", "executed"));
+        assertEquals(0.0, count("page", "coalesced"));
+    }
+
+    @Test
+    void differentKeys_andLaterCalls_runTheirOwnQuery() {
+        AtomicInteger queries = new AtomicInteger();
+        Supplier<Object> query = () -> queries.incrementAndGet();
+
+        coalescer.byId(1L, 0L, query);
+        coalescer.byId(1L, 0L, query);
+        coalescer.page(0, 20, Sort.by("id"), 0L, query);
+        coalescer.page(0, 20, Sort.by("lastName"), 0L, query);
+        coalescer.slice(0, 20, Sort.by("id"), 0L, query);
+
+        assertEquals(5, queries.get());
+        assertEquals(0.0, count("by-id", "coalesced") + count("page", "coalesced") + count("slice", "coalesced"));
+        assertThrows(IllegalStateException.class, () -> coalescer.byId(2L, 0L, () -> {
+            throw new IllegalStateException();
+        }));
+        assertEquals(0, coalescer.inFlight());
+    }
+
+    /**
+     * Starts {@value #CALLERS} callers and returns once all of them are either running the query
+     * or waiting for it.
+     */
+    private List<Future<Object>> callConcurrently(Supplier<Object> call) throws InterruptedException {
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call::get));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (count("by-id", "executed") + count("by-id", "coalesced") < CALLERS && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        return results;
+    }
+
+    private double count(String operation, String result) {
+        var counter = meterRegistry.find("student.reads").tag("operation", operation).tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.studentmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentPatch;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StudentSearchIndexTest {
+
+    private StudentSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new StudentSearchIndex(null);
+        index.onStudentChanged(created(1L, "Anna", "Nguyễn", "anna.nguyen@example.com"));
+        index.onStudentChanged(created(2L, "An", "Tran", "an.tran@example.com"));
+        index.onStudentChanged(created(3L, "Andrew", "Nguyen Van", "andrew@example.com"));
+        index.onStudentChanged(created(4L, "Bich", "Le", "bich.le@example.com"));
+    }
+
+    @Test
+    void search_ranksExactTermBeforeCompletions() {
+        List<Long> ids = ids(index.search("an", 10));
+
+        assertEquals(List.of(2L, 3L, 1L), ids);
+    }
+
+    @Test
+    void search_ignoresCaseAndDiacritics() {
+        assertEquals(List.of(1L, 3L), ids(index.search("NGUY", 10)));
+        assertEquals(List.of(1L, 3L), ids(index.search("nguyễn", 10)));
+    }
+
+    @Test
+    void search_requiresEveryWordToMatch() {
+        assertEquals(List.of(3L), ids(index.search("nguyen andr", 10)));
+        assertTrue(index.search("nguyen bich", 10).isEmpty());
+    }
+
+    @Test
+    void search_findsRareCombinationsOfCommonWords() {
+        index = new StudentSearchIndex(null);
+        for (long id = 1; id <= 12_000; id++) {
+            index.onStudentChanged(created(id, "Van", "Nguyen", "van" + id + "@example.com"));
+            index.onStudentChanged(created(12_000 + id, "Thi", "Tran", "thi" + id + "@example.com"));
+        }
+        index.onStudentChanged(created(24_001L, "Hoa", "Nguyen Thi", "hoa@example.com"));
+
+        assertEquals(List.of(24_001L), ids(index.search("nguyen thi hoa", 10)));
+        assertEquals(List.of(24_001L), ids(index.search("nguyen thi", 10)));
+    }
+
+    @Test
+    void search_matchesEmailPrefixAndHonoursLimit() {
+        assertEquals(List.of(4L), ids(index.search("bich.le@", 10)));
+        assertEquals(2, index.search("a", 2).size());
+    }
+
+    @Test
+    void onStudentChanged_keepsUnchangedFieldsOnPartialUpdate() {
+        index.onStudentChanged(StudentChangedEvent.patched(4L, new StudentPatch(null, "Pham", null, null)));
+
+        List<StudentSearchIndex.Document> hits = index.search("pham", 10);
+        assertEquals(List.of(4L), ids(hits));
+        assertEquals("Bich", hits.get(0).firstName());
+        assertEquals("bich.le@example.com", hits.get(0).email());
+        assertTrue(index.search("le", 10).isEmpty());
+    }
+
+    @Test
+    void onStudentChanged_replacesTermsOnUpdateAndDropsThemOnDelete() {
+        index.onStudentChanged(StudentChangedEvent.updated(student(4L, "Bich", "Pham", "bich.pham@example.com")));
+        assertTrue(index.search("le", 10).isEmpty());
+        assertEquals(List.of(4L), ids(index.search("pham", 10)));
+
+        index.onStudentChanged(StudentChangedEvent.deleted(4L));
+        assertTrue(index.search("bich", 10).isEmpty());
+        assertEquals(3, index.size());
+    }
+
+    private static StudentChangedEvent created(Long id, String firstName, String lastName, String email) {
+        return StudentChangedEvent.created(student(id, firstName, lastName, email));
+    }
+
+    private static Student student(Long id, String firstName, String lastName, String email) {
+        Student student = new Student(firstName, lastName, email, LocalDate.of(2000, 1, 1));
+        student.setId(id);
+        return student;
+    }
+
+    private static List<Long> ids(List<StudentSearchIndex.Document> documents) {
+        return documents.stream().map(StudentSearchIndex.Document::id).toList();
+    }
+}
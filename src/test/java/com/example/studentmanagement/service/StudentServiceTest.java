@@ -5,26 +5,37 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.example.studentmanagement.exception.DuplicateStudentEmailException;
 import com.example.studentmanagement.exception.InvalidStudentDataException;
 import com.example.studentmanagement.exception.ResourceNotFoundException;
 import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentPatch;
 import com.example.studentmanagement.repository.StudentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.LongFunction;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class StudentServiceTest {
@@ -32,6 +43,24 @@ class StudentServiceTest {
     @Mock
     private StudentRepository studentRepository;
 
+    @Mock
+    private StudentCountEstimator countEstimator;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private StudentEmailIndex emailIndex;
+
+    @Mock
+    private StudentGroupCommitter groupCommitter;
+
+    @Mock
+    private StudentCache studentCache;
+
+    @Spy
+    private StudentReadCoalescer readCoalescer = new StudentReadCoalescer(new SimpleMeterRegistry());
+
     @InjectMocks
     private StudentService studentService;
 
@@ -76,6 +105,7 @@ class StudentServiceTest {
         long studentId = 10L;
         Student expected = studentWithId(studentId, "Charlie");
         when(studentRepository.findById(studentId)).thenReturn(Optional.of(expected));
+        loadThroughCache(studentId);
 
         Student actual = studentService.getStudentById(studentId);
 
@@ -87,6 +117,7 @@ class StudentServiceTest {
     void getStudentById_whenStudentDoesNotExist_throwsResourceNotFound() {
         long studentId = 404L;
         when(studentRepository.findById(studentId)).thenReturn(Optional.empty());
+        loadThroughCache(studentId);
 
         assertThrows(ResourceNotFoundException.class, () -> studentService.getStudentById(studentId));
         verify(studentRepository, times(1)).findById(studentId);
@@ -118,6 +149,8 @@ class StudentServiceTest {
         ArgumentCaptor<Student> studentCaptor = ArgumentCaptor.forClass(Student.class);
         verify(studentRepository, times(1)).save(studentCaptor.capture());
 
+        verify(eventPublisher).publishEvent(StudentChangedEvent.created(saved));
+
         Student persistedArgument = studentCaptor.getValue();
         assertEquals(null, persistedArgument.getId());
         assertEquals("Diana", persistedArgument.getFirstName());
@@ -125,6 +158,18 @@ class StudentServiceTest {
         assertEquals("diana.prince@themyscira.org", persistedArgument.getEmail());
     }
 
+    @Test
+    void createStudent_whenEmailAlreadyIndexed_rejectsWithoutSaving() {
+        Student input = new Student("Clark", "Kent", " clark.kent@dailyplanet.com ", LocalDate.of(1990, 6, 18));
+        doThrow(new DuplicateStudentEmailException("clark.kent@dailyplanet.com"))
+            .when(emailIndex).checkAvailable("clark.kent@dailyplanet.com", null);
+
+        assertThrows(DuplicateStudentEmailException.class, () -> studentService.createStudent(input));
+
+        verify(studentRepository, never()).save(any(Student.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     void createStudent_whenPayloadMissingFirstName_throwsInvalidStudentDataException() {
         Student invalid = new Student(
@@ -136,6 +181,7 @@ class StudentServiceTest {
 
         assertThrows(InvalidStudentDataException.class, () -> studentService.createStudent(invalid));
         verify(studentRepository, never()).save(any(Student.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -179,6 +225,28 @@ class StudentServiceTest {
         assertEquals(LocalDate.of(2001, 12, 3), persisted.getDateOfBirth());
     }
 
+    @Test
+    void updateStudent_whenEmailHeldByAnotherStudent_rejectsWithoutSaving() {
+        long studentId = 111L;
+        Student existing = studentBuilder()
+            .withId(studentId)
+            .withFirstName("Lois")
+            .withLastName("Lane")
+            .withEmail("lois.lane@dailyplanet.com")
+            .withDateOfBirth(LocalDate.of(1991, 2, 2))
+            .build();
+        Student payload = new Student("Lois", "Lane", "clark.kent@dailyplanet.com ", LocalDate.of(1991, 2, 2));
+        when(studentRepository.findById(studentId)).thenReturn(Optional.of(existing));
+        doThrow(new DuplicateStudentEmailException("clark.kent@dailyplanet.com"))
+            .when(emailIndex).checkAvailable("clark.kent@dailyplanet.com", studentId);
+
+        assertThrows(DuplicateStudentEmailException.class, () -> studentService.updateStudent(studentId, payload));
+
+        verify(studentRepository, times(1)).findById(studentId);
+        verify(studentRepository, never()).save(any(Student.class));
+        assertEquals("lois.lane@dailyplanet.com", existing.getEmail());
+    }
+
     @Test
     void updateStudent_whenStudentMissing_throwsResourceNotFoundException() {
         long studentId = 202L;
@@ -222,7 +290,41 @@ class StudentServiceTest {
     }
 
     @Test
-    void deleteStudent_whenStudentExists_invokesDeleteById() {
+    void patchStudent_whenRowUpdated_publishesChangedFieldsOnly() {
+        long studentId = 606L;
+        StudentPatch patch = new StudentPatch(null, " Allen ", null, null);
+        when(studentRepository.patch(studentId, new StudentPatch(null, "Allen", null, null))).thenReturn(1);
+
+        studentService.patchStudent(studentId, patch);
+
+        verify(studentRepository, times(1)).patch(studentId, new StudentPatch(null, "Allen", null, null));
+        verify(eventPublisher).publishEvent(
+            new StudentChangedEvent(StudentChangedEvent.Type.UPDATED, studentId, null, "Allen", null, null)
+        );
+    }
+
+    @Test
+    void patchStudent_whenNoRowUpdated_throwsResourceNotFoundException() {
+        long studentId = 707L;
+        StudentPatch patch = new StudentPatch("Barry", null, null, null);
+        when(studentRepository.patch(studentId, patch)).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> studentService.patchStudent(studentId, patch));
+
+        verify(studentRepository, times(1)).patch(studentId, patch);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void estimateStudentCount_delegatesToEstimatorWithoutCounting() {
+        when(countEstimator.estimate()).thenReturn(42L);
+
+        assertEquals(42L, studentService.estimateStudentCount());
+        verify(studentRepository, never()).count();
+    }
+
+    @Test
+    void deleteStudent_whenStudentExists_deletesLoadedEntityWithoutSecondLookup() {
         long studentId = 4040L;
         Student existing = studentBuilder()
             .withId(studentId)
@@ -235,7 +337,8 @@ class StudentServiceTest {
         studentService.deleteStudent(studentId);
 
         verify(studentRepository, times(1)).findById(studentId);
-        verify(studentRepository, times(1)).deleteById(studentId);
+        verify(studentRepository, times(1)).delete(existing);
+        verify(eventPublisher).publishEvent(StudentChangedEvent.deleted(studentId));
     }
 
     @Test
@@ -246,13 +349,61 @@ class StudentServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> studentService.deleteStudent(studentId));
 
         verify(studentRepository, times(1)).findById(studentId);
-        verify(studentRepository, never()).deleteById(studentId);
+        verify(studentRepository, never()).delete(any(Student.class));
+    }
+
+    @Test
+    void getStudentsByIds_returnsFoundStudentsInRequestOrder() {
+        List<Long> ids = List.of(3L, 99L, 1L);
+        when(studentRepository.findAllById(ids)).thenReturn(List.of(
+            studentWithId(1L, "Alice"),
+            studentWithId(3L, "Carol")
+        ));
+
+        Map<Long, Student> result = studentService.getStudentsByIds(ids);
+
+        assertEquals(List.of(3L, 1L), List.copyOf(result.keySet()));
+        assertEquals("Carol", result.get(3L).getFirstName());
+        verify(studentRepository, times(1)).findAllById(ids);
+    }
+
+    @Test
+    void deleteStudents_deletesExistingIdsInOneStatementAndPublishesEachDelete() {
+        List<Long> ids = List.of(7L, 8L, 9L);
+        when(studentRepository.findExistingIds(ids)).thenReturn(List.of(9L, 7L));
+
+        List<Long> deleted = studentService.deleteStudents(ids);
+
+        assertEquals(List.of(7L, 9L), deleted);
+        verify(studentRepository, times(1)).findExistingIds(ids);
+        verify(studentRepository, times(1)).deleteAllByIdInBatch(Set.of(7L, 9L));
+        verify(eventPublisher).publishEvent(StudentChangedEvent.deleted(7L));
+        verify(eventPublisher).publishEvent(StudentChangedEvent.deleted(9L));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void deleteStudents_whenNoneExist_skipsDelete() {
+        List<Long> ids = List.of(7L, 8L);
+        when(studentRepository.findExistingIds(ids)).thenReturn(List.of());
+
+        assertTrue(studentService.deleteStudents(ids).isEmpty());
+
+        verify(studentRepository, times(1)).findExistingIds(ids);
+        verifyNoInteractions(eventPublisher);
     }
 
     private TestStudentBuilder studentBuilder() {
         return new TestStudentBuilder();
     }
 
+    /**
+     * Makes the mocked cache miss for {@code id} and run the loader it is given.
+     */
+    private void loadThroughCache(Long id) {
+        when(studentCache.get(eq(id), any())).thenAnswer(invocation -> invocation.<LongFunction<Student>>getArgument(1).apply(0L));
+    }
+
     private Student studentWithId(Long id, String firstName) {
         return studentBuilder()
             .withId(id)
@@ -0,0 +1,108 @@
+package com.example.studentmanagement.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.example.studentmanagement.model.Student;
+import com.example.studentmanagement.model.StudentBirthYearCount;
+import com.example.studentmanagement.model.StudentEmailDomainCount;
+import com.example.studentmanagement.model.StudentPatch;
+import com.example.studentmanagement.repository.StudentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+class StudentStatisticsTest {
+
+    private final StudentRepository studentRepository = mock(StudentRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StudentStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = new StudentStatistics(studentRepository, meterRegistry);
+        statistics.onStudentChanged(created(1L, "an@gmail.com", 2001));
+        statistics.onStudentChanged(created(2L, "binh@Gmail.com", 2001));
+        statistics.onStudentChanged(created(3L, "chi@hust.edu.vn", 1999));
+    }
+
+    @Test
+    void counters_followCreatesUpdatesAndDeletes() {
+        assertEquals(3, statistics.total());
+        assertEquals(2, statistics.countByBirthYear(2001));
+        assertEquals(2, statistics.countByEmailDomain("gmail.com"));
+
+        statistics.onStudentChanged(StudentChangedEvent.patched(1L, new StudentPatch(null, null, "an@hust.edu.vn", null)));
+        assertEquals(1, statistics.countByEmailDomain("gmail.com"));
+        assertEquals(2, statistics.countByEmailDomain("hust.edu.vn"));
+        assertEquals(2, statistics.countByBirthYear(2001));
+
+        statistics.onStudentChanged(StudentChangedEvent.deleted(3L));
+        statistics.onStudentChanged(StudentChangedEvent.deleted(3L));
+        assertEquals(2, statistics.total());
+        assertEquals(0, statistics.countByBirthYear(1999));
+
+        assertEquals(
+            new StudentStatistics.Snapshot(2, Map.of(2001, 2L), Map.of("gmail.com", 1L)),
+            statistics.snapshot(1)
+        );
+    }
+
+    @Test
+    void reconcile_reportsNothingWhenCountersMatch() {
+        givenDatabase(3, Map.of(2001, 2L, 1999, 1L), Map.of("gmail.com", 2L, "hust.edu.vn", 1L));
+
+        assertFalse(statistics.reconcile());
+        assertEquals(0, meterRegistry.counter("student.stats.drift").count());
+    }
+
+    @Test
+    void reconcile_rebuildsDriftedCountersFromTheRepository() {
+        givenDatabase(4, Map.of(2001, 2L, 1999, 2L), Map.of("gmail.com", 2L, "hust.edu.vn", 2L));
+        List<Student> rows = List.of(
+            student(1L, "an@gmail.com", 2001),
+            student(2L, "binh@gmail.com", 2001),
+            student(3L, "chi@hust.edu.vn", 1999),
+            student(4L, "dung@hust.edu.vn", 1999)
+        );
+        when(studentRepository.findBy(any(ScrollPosition.class), any(Sort.class), any(Limit.class)))
+            .thenReturn(Window.from(rows, index -> ScrollPosition.offset(index)));
+
+        assertTrue(statistics.reconcile());
+        assertEquals(1, meterRegistry.counter("student.stats.drift").count());
+        assertEquals(4, statistics.total());
+        assertEquals(2, statistics.countByBirthYear(1999));
+    }
+
+    private void givenDatabase(long total, Map<Integer, Long> years, Map<String, Long> domains) {
+        when(studentRepository.count()).thenReturn(total);
+        when(studentRepository.countByBirthYear()).thenReturn(years.entrySet().stream()
+            .map(entry -> new StudentBirthYearCount(entry.getKey(), entry.getValue()))
+            .toList());
+        when(studentRepository.countByEmailDomain()).thenReturn(domains.entrySet().stream()
+            .map(entry -> new StudentEmailDomainCount(entry.getKey(), entry.getValue()))
+            .toList());
+    }
+
+    private static StudentChangedEvent created(Long id, String email, int birthYear) {
+        return StudentChangedEvent.created(student(id, email, birthYear));
+    }
+
+    private static Student student(Long id, String email, int birthYear) {
+        Student student = new Student("First", "Last", email, LocalDate.of(birthYear, 4, 1));
+        student.setId(id);
+        return student;
+    }
+}
@@ -0,0 +1 @@
+console.log("student management test fixture");